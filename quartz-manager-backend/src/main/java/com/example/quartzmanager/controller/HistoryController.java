@@ -1,30 +0,0 @@
-package com.example.quartzmanager.controller;
-
-import com.example.quartzmanager.entity.ExecutionLog;
-import com.example.quartzmanager.repository.ExecutionLogRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
-
-@RestController
-@RequestMapping("/api/history")
-@RequiredArgsConstructor
-@CrossOrigin(origins = "*")
-public class HistoryController {
-
-    private final ExecutionLogRepository executionLogRepository;
-
-    @GetMapping("/{group}/{name}")
-    public ResponseEntity<List<ExecutionLog>> getJobHistory(
-            @PathVariable String group,
-            @PathVariable String name) {
-        // Return last 20 executions by default for simple list view
-        // For full pagination we can add parameters, but this should suffice for the UI
-        // modal
-        return ResponseEntity.ok(
-                executionLogRepository.findByJobGroupAndJobNameOrderByFireTimeDesc(group, name)
-                        .stream().limit(20).toList());
-    }
-}
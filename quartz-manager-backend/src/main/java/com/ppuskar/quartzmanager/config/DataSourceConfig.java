@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Quartz runs on the application's Hikari pool: with no Quartz data source configured,
+ * Spring's {@code LocalDataSourceJobStore} takes transactional connections that join
+ * Spring transactions and non-transactional ones straight from the same pool. Unless
+ * {@code spring.datasource.hikari.maximum-pool-size} is set, the pool is sized from the
+ * Quartz worker count, since each finishing job briefly needs a job store connection.
+ */
+@Configuration
+@Slf4j
+public class DataSourceConfig {
+
+    private static final String QUARTZ_THREAD_POOL = "spring.quartz.properties.org.quartz.threadPool.";
+    private static final String MAX_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    public static BeanPostProcessor dataSourcePoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && !environment.containsProperty(MAX_POOL_SIZE)) {
+                    int size = poolSize(environment);
+                    hikari.setMaximumPoolSize(size);
+                    log.info("Sized connection pool {} to {} connections for the Quartz workers",
+                            hikari.getPoolName() != null ? hikari.getPoolName() : beanName, size);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * {@code quartz.datasource.base-connections} for the scheduler's own threads, web
+     * requests and the history writer, plus a share of the Quartz workers, capped at
+     * {@code quartz.datasource.max-pool-size}.
+     */
+    static int poolSize(Environment environment) {
+        int workers = environment.getProperty(QUARTZ_THREAD_POOL + "maxConcurrency", Integer.class, -1);
+        if (workers <= 0) {
+            workers = environment.getProperty(QUARTZ_THREAD_POOL + "threadCount", Integer.class, 10);
+        }
+        double perWorker = environment.getProperty("quartz.datasource.connections-per-worker", Double.class, 0.25);
+        int base = environment.getProperty("quartz.datasource.base-connections", Integer.class, 10);
+        int max = environment.getProperty("quartz.datasource.max-pool-size", Integer.class, 50);
+        return Math.max(Math.min(base + (int) Math.ceil(workers * perWorker), max), 1);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * Single client shared by every HttpJob fire. Quartz creates a new job instance per
+     * execution, so the client (and its connection pool) must not live on the job itself.
+     */
+    @Bean
+    public HttpClient httpJobClient(@Value("${quartz.http.connect-timeout-ms:10000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+}
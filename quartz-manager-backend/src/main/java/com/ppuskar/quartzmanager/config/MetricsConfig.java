@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.config;
+
+import com.ppuskar.quartzmanager.job.HttpJobDispatcher;
+import com.ppuskar.quartzmanager.listener.CatchUpThrottle;
+import com.ppuskar.quartzmanager.scheduler.ClusterMonitor;
+import com.ppuskar.quartzmanager.scheduler.ExecutionLanes;
+import com.ppuskar.quartzmanager.scheduler.VirtualThreadPool;
+import com.ppuskar.quartzmanager.service.ExecutionLogWriter;
+import com.ppuskar.quartzmanager.service.RecentExecutionCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the state already tracked by the history writer and cache, the async HTTP
+ * dispatcher, the misfire catch-up throttle, the cluster monitor and the execution lanes
+ * as meters. Everything here is read at scrape time.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder executionLogWriterMetrics(ExecutionLogWriter writer) {
+        return registry -> {
+            Gauge.builder("quartz.history.writer.queue", writer, ExecutionLogWriter::getQueueSize)
+                    .description("Execution logs waiting to be written")
+                    .register(registry);
+            FunctionCounter.builder("quartz.history.writer.written", writer, ExecutionLogWriter::getWrittenCount)
+                    .description("Execution logs written to the database")
+                    .register(registry);
+            FunctionCounter.builder("quartz.history.writer.dropped", writer, ExecutionLogWriter::getDroppedCount)
+                    .description("Execution logs dropped by the overflow policy or a failed write")
+                    .register(registry);
+            FunctionCounter.builder("quartz.history.writer.spilled", writer, ExecutionLogWriter::getSpilledCount)
+                    .description("Execution logs spilled to disk")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder recentExecutionCacheMetrics(RecentExecutionCache cache) {
+        return registry -> {
+            Gauge.builder("quartz.history.recent.jobs", cache, RecentExecutionCache::getJobCount)
+                    .description("Jobs whose latest executions are held in memory")
+                    .register(registry);
+            FunctionCounter.builder("quartz.history.recent.hits", cache, RecentExecutionCache::getHitCount)
+                    .description("History reads answered from memory")
+                    .register(registry);
+            FunctionCounter.builder("quartz.history.recent.misses", cache, RecentExecutionCache::getMissCount)
+                    .description("History reads that loaded the job's latest executions from the database")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder httpJobDispatcherMetrics(HttpJobDispatcher dispatcher) {
+        return registry -> Gauge.builder("quartz.http.async.in-flight", dispatcher, HttpJobDispatcher::getInFlight)
+                .description("Async HttpJob requests awaiting a response")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder catchUpThrottleMetrics(CatchUpThrottle throttle) {
+        return registry -> {
+            FunctionCounter.builder("quartz.misfire.recovered", throttle, CatchUpThrottle::getRecoveredCount)
+                    .description("Fires that recovered a missed schedule")
+                    .register(registry);
+            FunctionCounter.builder("quartz.misfire.catchup.deferred", throttle, CatchUpThrottle::getDeferredCount)
+                    .description("Recovered fires moved to a later catch-up slot")
+                    .register(registry);
+            Gauge.builder("quartz.misfire.catchup.backlog", throttle, CatchUpThrottle::getBacklog)
+                    .description("Catch-up fires waiting for their slot")
+                    .register(registry);
+            Gauge.builder("quartz.misfire.catchup.delay", throttle, CatchUpThrottle::getCatchUpDelayMs)
+                    .description("Milliseconds until a newly recovered fire would get a catch-up slot")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder clusterMetrics(ClusterMonitor monitor) {
+        return registry -> {
+            for (String lock : new String[]{"TRIGGER_ACCESS", "STATE_ACCESS"}) {
+                FunctionTimer.builder("quartz.jobstore.lock.wait", monitor,
+                                m -> m.getLockWaitCount(lock), m -> m.getLockWaitNanos(lock), TimeUnit.NANOSECONDS)
+                        .description("Time spent waiting for a job store lock row")
+                        .tag("lock", lock)
+                        .register(registry);
+            }
+            Gauge.builder("quartz.cluster.nodes", monitor, ClusterMonitor::getLiveNodes)
+                    .description("Scheduler instances that reported recently")
+                    .register(registry);
+            Gauge.builder("quartz.cluster.share", monitor, ClusterMonitor::getLocalShare)
+                    .description("Share of the cluster's fires handled by this instance")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder executionLaneMetrics(ExecutionLanes lanes) {
+        return registry -> {
+            for (String lane : lanes.getLaneNames()) {
+                FunctionTimer.builder("quartz.lane.queue", lanes,
+                                l -> (long) snapshotValue(l, lane, VirtualThreadPool.LaneSnapshot::started),
+                                l -> snapshotValue(l, lane, VirtualThreadPool.LaneSnapshot::totalWaitNanos),
+                                TimeUnit.NANOSECONDS)
+                        .description("Time fires waited for a worker of their lane")
+                        .tag("lane", lane)
+                        .register(registry);
+                Gauge.builder("quartz.lane.active", lanes,
+                                l -> snapshotValue(l, lane, VirtualThreadPool.LaneSnapshot::active))
+                        .description("Jobs of the lane currently running")
+                        .tag("lane", lane)
+                        .register(registry);
+                Gauge.builder("quartz.lane.queued", lanes,
+                                l -> snapshotValue(l, lane, VirtualThreadPool.LaneSnapshot::queued))
+                        .description("Fires of the lane waiting for a worker")
+                        .tag("lane", lane)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double snapshotValue(ExecutionLanes lanes, String lane,
+                                        ToDoubleFunction<VirtualThreadPool.LaneSnapshot> value) {
+        VirtualThreadPool.LaneSnapshot snapshot = lanes.snapshot(lane);
+        return snapshot != null ? value.applyAsDouble(snapshot) : 0;
+    }
+}
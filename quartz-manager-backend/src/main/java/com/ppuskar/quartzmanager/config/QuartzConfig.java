@@ -14,12 +14,19 @@
 
 package com.ppuskar.quartzmanager.config;
 
+import com.ppuskar.quartzmanager.listener.CatchUpThrottle;
 import com.ppuskar.quartzmanager.listener.ExecutionHistoryListener;
+import com.ppuskar.quartzmanager.listener.MetricsListener;
+import com.ppuskar.quartzmanager.listener.TriggerSnapshotListener;
+import com.ppuskar.quartzmanager.scheduler.LaneAwareJobFactory;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.springframework.boot.quartz.autoconfigure.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -29,6 +36,22 @@ public class QuartzConfig {
 
     private final Scheduler scheduler;
     private final ExecutionHistoryListener executionHistoryListener;
+    private final TriggerSnapshotListener triggerSnapshotListener;
+    private final MetricsListener metricsListener;
+    private final CatchUpThrottle catchUpThrottle;
+
+    /**
+     * Replaces the default job factory with one that routes fires to their execution lane.
+     * Static so the scheduler does not depend on this configuration, which depends on it.
+     */
+    @Bean
+    public static SchedulerFactoryBeanCustomizer laneAwareJobFactory(ApplicationContext applicationContext) {
+        return schedulerFactoryBean -> {
+            LaneAwareJobFactory jobFactory = new LaneAwareJobFactory();
+            jobFactory.setApplicationContext(applicationContext);
+            schedulerFactoryBean.setJobFactory(jobFactory);
+        };
+    }
 
     @PostConstruct
     public void init() {
@@ -38,5 +61,25 @@ public class QuartzConfig {
         } catch (SchedulerException e) {
             log.error("Failed to register ExecutionHistoryListener", e);
         }
+        try {
+            scheduler.getListenerManager().addSchedulerListener(triggerSnapshotListener);
+            scheduler.getListenerManager().addTriggerListener(triggerSnapshotListener);
+            log.info("Registered TriggerSnapshotListener");
+        } catch (SchedulerException e) {
+            log.error("Failed to register TriggerSnapshotListener", e);
+        }
+        try {
+            scheduler.getListenerManager().addJobListener(metricsListener);
+            scheduler.getListenerManager().addTriggerListener(metricsListener);
+            log.info("Registered MetricsListener");
+        } catch (SchedulerException e) {
+            log.error("Failed to register MetricsListener", e);
+        }
+        try {
+            scheduler.getListenerManager().addTriggerListener(catchUpThrottle);
+            log.info("Registered CatchUpThrottle");
+        } catch (SchedulerException e) {
+            log.error("Failed to register CatchUpThrottle", e);
+        }
     }
 }
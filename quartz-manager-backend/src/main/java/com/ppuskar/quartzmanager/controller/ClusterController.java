@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.controller;
+
+import com.ppuskar.quartzmanager.dto.ClusterStatus;
+import com.ppuskar.quartzmanager.scheduler.ClusterMonitor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cluster")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@Slf4j
+public class ClusterController {
+
+    private final ClusterMonitor clusterMonitor;
+
+    /**
+     * Scheduler instances with their last load report, check-in and share of the fires.
+     */
+    @GetMapping
+    public ResponseEntity<ClusterStatus> getClusterStatus() {
+        try {
+            return ResponseEntity.ok(clusterMonitor.getStatus());
+        } catch (SchedulerException e) {
+            log.error("Error reading cluster status", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
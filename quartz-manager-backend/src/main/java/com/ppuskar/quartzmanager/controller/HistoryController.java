@@ -14,35 +14,114 @@
 
 package com.ppuskar.quartzmanager.controller;
 
+import com.ppuskar.quartzmanager.dto.HistoryPage;
+import com.ppuskar.quartzmanager.dto.RetentionStatus;
 import com.ppuskar.quartzmanager.entity.ExecutionLog;
-import com.ppuskar.quartzmanager.repository.ExecutionLogRepository;
+import com.ppuskar.quartzmanager.service.ExecutionHistoryService;
+import com.ppuskar.quartzmanager.service.ExecutionLogExportService;
+import com.ppuskar.quartzmanager.service.HistoryCleanupService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/history")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
+@Slf4j
 public class HistoryController {
 
-    private final ExecutionLogRepository executionLogRepository;
+    private final ExecutionHistoryService executionHistoryService;
+    private final HistoryCleanupService historyCleanupService;
+    private final ExecutionLogExportService executionLogExportService;
+
+    @GetMapping("/retention")
+    public ResponseEntity<RetentionStatus> getRetentionStatus() {
+        return ResponseEntity.ok(historyCleanupService.getStatus());
+    }
+
+    /**
+     * Bulk export as NDJSON or CSV, optionally gzip-compressed, streamed from a database
+     * cursor in fire time order.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @RequestParam(defaultValue = "NDJSON") ExecutionLogExportService.Format format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String group,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) ExecutionLog.ExecutionStatus status) {
+        log.info("Received history export request: format={}, gzip={}, from={}, to={}, group={}, name={}, status={}",
+                format, gzip, from, to, group, name, status);
+        String extension = format == ExecutionLogExportService.Format.CSV ? "csv" : "ndjson";
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : format == ExecutionLogExportService.Format.CSV ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+                    executionLogExportService.export(gzipOut, format, from, to, group, name, status);
+                }
+            } else {
+                executionLogExportService.export(out, format, from, to, group, name, status);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("execution-history." + extension + (gzip ? ".gz" : ""))
+                        .build().toString())
+                .body(body);
+    }
 
     @GetMapping("/{group}/{name}")
     public ResponseEntity<List<ExecutionLog>> getJobHistory(
             @PathVariable String group,
-            @PathVariable String name) {
-        // Return last 20 executions by default for simple list view
-        // For full pagination we can add parameters, but this should suffice for the UI
-        // modal
-        return ResponseEntity.ok(
-                executionLogRepository.findByJobGroupAndJobNameOrderByFireTimeDesc(group, name)
-                        .stream().limit(20).toList());
+            @PathVariable String name,
+            @RequestParam(defaultValue = "20") int limit) {
+        // Latest executions for the simple list view, as summaries: messages are cut to
+        // quartz.history.recent.max-message-length whether or not the recent cache answers.
+        // Use /page for full messages and to walk further back.
+        if (limit < 1 || limit > 500) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(executionHistoryService.getRecentHistory(group, name, limit));
+    }
+
+    /**
+     * Keyset-paginated history, newest first. Pass the returned {@code nextCursor} back as
+     * {@code cursor} to fetch the next (older) page.
+     */
+    @GetMapping("/{group}/{name}/page")
+    public ResponseEntity<HistoryPage> getJobHistoryPage(
+            @PathVariable String group,
+            @PathVariable String name,
+            @RequestParam(required = false) ExecutionLog.ExecutionStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > 500) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(executionHistoryService.getHistoryPage(group, name, status, from, to, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid history page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
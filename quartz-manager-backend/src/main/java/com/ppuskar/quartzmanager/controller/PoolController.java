@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.controller;
+
+import com.ppuskar.quartzmanager.dto.LaneStatus;
+import com.ppuskar.quartzmanager.dto.PoolStatus;
+import com.ppuskar.quartzmanager.scheduler.AdaptivePoolSizer;
+import com.ppuskar.quartzmanager.scheduler.ExecutionLanes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/scheduler")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PoolController {
+
+    private final AdaptivePoolSizer adaptivePoolSizer;
+    private final ExecutionLanes executionLanes;
+
+    /**
+     * Current worker pool size, the signals of the last evaluation and recent resize decisions.
+     */
+    @GetMapping("/pool")
+    public ResponseEntity<PoolStatus> getPoolStatus() {
+        return ResponseEntity.ok(adaptivePoolSizer.getStatus());
+    }
+
+    /**
+     * Execution lanes with their limits, running and queued jobs and queueing delay.
+     */
+    @GetMapping("/lanes")
+    public ResponseEntity<List<LaneStatus>> getLanes() {
+        return ResponseEntity.ok(executionLanes.getStatus());
+    }
+}
@@ -14,12 +14,24 @@
 
 package com.ppuskar.quartzmanager.controller;
 
+import com.ppuskar.quartzmanager.dto.BatchJobResult;
+import com.ppuskar.quartzmanager.dto.BatchResponse;
+import com.ppuskar.quartzmanager.dto.JobKeyRequest;
 import com.ppuskar.quartzmanager.dto.JobRequest;
+import com.ppuskar.quartzmanager.dto.SpreadPreview;
 import com.ppuskar.quartzmanager.dto.TriggerInfo;
+import com.ppuskar.quartzmanager.dto.TriggerPage;
+import com.ppuskar.quartzmanager.dto.TriggerQuery;
+import com.ppuskar.quartzmanager.service.JobBatchService;
 import com.ppuskar.quartzmanager.service.SchedulerService;
+import com.ppuskar.quartzmanager.service.TriggerSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,36 +40,167 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/jobs")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*") // Allow for development
+@CrossOrigin(origins = "*", exposedHeaders = {SchedulerController.TOTAL_COUNT_HEADER, HttpHeaders.ETAG}) // Allow for development
 @Slf4j
 public class SchedulerController {
 
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final SchedulerService schedulerService;
+    private final TriggerSnapshotCache triggerSnapshotCache;
+    private final JobBatchService jobBatchService;
+
+    @Value("${quartz.jobs.batch.max-items:10000}")
+    private int maxBatchItems;
 
+    @Value("${quartz.jobs.upsert.diff:true}")
+    private boolean diffByDefault;
+
+    /**
+     * Creates or updates a job. Unless {@code diff=false}, an existing job is only written
+     * where it differs from the request, and the response names the changed fields.
+     */
     @PostMapping
-    public ResponseEntity<String> scheduleJob(@RequestBody JobRequest jobRequest) {
+    public ResponseEntity<String> scheduleJob(@RequestBody JobRequest jobRequest,
+                                              @RequestParam(required = false) Boolean diff) {
         log.info("Received request to schedule job: name={}, group={}", jobRequest.getJobName(),
                 jobRequest.getJobGroup());
         try {
-            schedulerService.scheduleJob(jobRequest);
+            BatchJobResult result = schedulerService.scheduleJob(jobRequest, diff != null ? diff : diffByDefault);
+            if (result.getStatus() == BatchJobResult.Status.UNCHANGED) {
+                return ResponseEntity.ok("Job unchanged");
+            }
+            if (result.getChanges() != null) {
+                return ResponseEntity.ok("Job updated: " + String.join(", ", result.getChanges()));
+            }
             return ResponseEntity.ok("Job scheduled successfully");
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid job {}/{}: {}", jobRequest.getJobGroup(), jobRequest.getJobName(), e.getMessage());
+            return ResponseEntity.badRequest().body("Invalid job: " + e.getMessage());
         } catch (SchedulerException e) {
             log.error("Error scheduling job", e);
             return ResponseEntity.internalServerError().body("Error scheduling job: " + e.getMessage());
         }
     }
 
+    /**
+     * Schedules many jobs at once. Every entry is validated first (including cron
+     * parsing); the response reports the outcome of each entry in request order. Unless
+     * {@code diff=false}, existing jobs that match their entry are reported as unchanged
+     * and not written.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> scheduleJobs(@RequestBody List<JobRequest> jobRequests,
+                                                      @RequestParam(defaultValue = "true") boolean replace,
+                                                      @RequestParam(required = false) Boolean diff) {
+        log.info("Received request to schedule {} jobs", jobRequests.size());
+        if (jobRequests.size() > maxBatchItems) {
+            return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).build();
+        }
+        try {
+            return ResponseEntity.ok(jobBatchService.scheduleJobs(jobRequests, replace,
+                    diff != null ? diff : diffByDefault));
+        } catch (SchedulerException e) {
+            log.error("Error scheduling job batch", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteJobs(@RequestBody List<JobKeyRequest> jobKeys) {
+        log.info("Received request to delete {} jobs", jobKeys.size());
+        if (jobKeys.size() > maxBatchItems) {
+            return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).build();
+        }
+        try {
+            return ResponseEntity.ok(jobBatchService.deleteJobs(jobKeys));
+        } catch (SchedulerException e) {
+            log.error("Error deleting job batch", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Lists jobs. Without {@code page} every matching trigger is returned; with it the
+     * response holds one page and {@code X-Total-Count} carries the total match count.
+     * {@code sort} takes a field and optional direction, e.g. {@code nextExecutionTime,desc}.
+     * Once the snapshot cache is warm, responses carry a version ETag and a matching
+     * {@code If-None-Match} is answered with 304.
+     */
     @GetMapping
-    public ResponseEntity<List<TriggerInfo>> getAllJobs() {
-        log.info("Received request to get all jobs");
+    public ResponseEntity<List<TriggerInfo>> getAllJobs(
+            @RequestParam(required = false) String group,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Received request to get jobs: group={}, state={}, sort={}, page={}, size={}",
+                group, state, sort, page, size);
+        if ((page != null && page < 0) || size < 1 || size > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+        String[] sortParts = sort != null ? sort.split(",") : new String[0];
+        TriggerQuery query = TriggerQuery.builder()
+                .group(group)
+                .state(state)
+                .sort(sortParts.length > 0 ? sortParts[0].trim() : null)
+                .descending(sortParts.length > 1 && sortParts[1].trim().equalsIgnoreCase("desc"))
+                .page(page)
+                .size(size)
+                .build();
         try {
-            return ResponseEntity.ok(schedulerService.getAllTriggers());
+            if (triggerSnapshotCache.isReady()) {
+                triggerSnapshotCache.refreshPending();
+                String etag = triggerSnapshotCache.getETag();
+                if (etag.equals(ifNoneMatch)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+                }
+                TriggerPage result = triggerSnapshotCache.query(query);
+                return ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotal()))
+                        .body(result.getItems());
+            }
+            TriggerPage result = schedulerService.findTriggers(query);
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotal()))
+                    .body(result.getItems());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid job query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (SchedulerException e) {
             log.error("Error getting all jobs", e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Compares the per-bucket fire load of cron jobs with and without spreading over the
+     * next {@code horizonMinutes}. Without {@code windowSeconds} each job's group setting
+     * is used, which previews the configured spreading.
+     */
+    @GetMapping("/spread-preview")
+    public ResponseEntity<SpreadPreview> previewSpread(
+            @RequestParam(required = false) String group,
+            @RequestParam(required = false) Integer windowSeconds,
+            @RequestParam(defaultValue = "60") int horizonMinutes,
+            @RequestParam(defaultValue = "1") int bucketSeconds) {
+        log.info("Received request to preview spread: group={}, windowSeconds={}", group, windowSeconds);
+        if (horizonMinutes < 1 || horizonMinutes > 24 * 60 || bucketSeconds < 1 || bucketSeconds > 3600
+                || (windowSeconds != null && windowSeconds < 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(schedulerService.previewSpread(group, windowSeconds, horizonMinutes,
+                    bucketSeconds));
+        } catch (SchedulerException e) {
+            log.error("Error previewing spread", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/groups")
     public ResponseEntity<List<String>> getAllJobGroups() {
         log.info("Received request to get all job groups");
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.controller;
+
+import com.ppuskar.quartzmanager.dto.JobLatencyChange;
+import com.ppuskar.quartzmanager.dto.JobStats;
+import com.ppuskar.quartzmanager.service.JobStatsService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobKey;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class StatsController {
+
+    private static final int MAX_WINDOW_MINUTES = 60 * 24 * 30;
+
+    private final JobStatsService jobStatsService;
+
+    @GetMapping("/jobs")
+    public ResponseEntity<List<JobStats>> getAllJobStats(
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "p95") String sort,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (minutes < 1 || minutes > MAX_WINDOW_MINUTES || limit < 1 || limit > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(jobStatsService.getAllJobStats(minutes, sort, limit));
+    }
+
+    @GetMapping("/jobs/{group}/{name}")
+    public ResponseEntity<JobStats> getJobStats(
+            @PathVariable String group,
+            @PathVariable String name,
+            @RequestParam(defaultValue = "60") int minutes) {
+        if (minutes < 1 || minutes > MAX_WINDOW_MINUTES) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(jobStatsService.getJobStats(new JobKey(name, group), minutes));
+    }
+
+    /**
+     * Jobs that got slower: p95 of the last {@code minutes} compared to the window before.
+     */
+    @GetMapping("/regressions")
+    public ResponseEntity<List<JobLatencyChange>> getLatencyRegressions(
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "5") int minExecutions,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (minutes < 1 || minutes > MAX_WINDOW_MINUTES || limit < 1 || limit > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(jobStatsService.getLatencyRegressions(minutes, minExecutions, limit));
+    }
+}
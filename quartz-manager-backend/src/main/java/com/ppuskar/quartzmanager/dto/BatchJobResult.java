@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BatchJobResult {
+
+    public BatchJobResult(String jobGroup, String jobName, Status status, String message) {
+        this(jobGroup, jobName, status, message, null);
+    }
+
+    private String jobGroup;
+    private String jobName;
+    private Status status;
+    private String message;
+    private List<String> changes; // Fields that differed from the stored job; null unless the request was diffed
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        DELETED,
+        NOT_FOUND,
+        INVALID,
+        FAILED
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ClusterNodeStatus {
+    private String instanceId;
+    private String host;
+    private boolean local;
+    private boolean alive;
+    private String startedAt;
+    private String reportedAt;
+    private String lastCheckin; // Null when not clustered
+    // Over the node's last report interval
+    private double firesPerSecond;
+    private double share; // Of the fires per second of all live nodes
+    private long firesTotal;
+    private long lockAcquisitions;
+    private double lockWaitAvgMs;
+    private double lockWaitMaxMs;
+    private int poolSize;
+    private int busy;
+    // From the job store at request time
+    private long acquired;
+    private long executing;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ClusterStatus {
+    private boolean clustered;
+    private String schedulerName;
+    private String localInstanceId;
+    private long checkinIntervalMs;
+    private int batchMaxCount;
+    private long batchFireAheadMs;
+    private int liveNodes;
+    private double firesPerSecond; // All live nodes
+    private double imbalance; // Busiest node's share times the number of live nodes; 1.0 is even
+    private List<ClusterNodeStatus> nodes;
+}
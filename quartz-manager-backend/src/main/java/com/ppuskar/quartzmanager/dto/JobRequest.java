@@ -26,4 +26,17 @@ public class JobRequest {
     private Long startTime; // Epoch millis
     private Long endTime;   // Epoch millis
     private Map<String, String> jobDataMap;
+    private Integer spreadWindowSeconds; // Null uses the group default; 0 disables spreading
+    private MisfirePolicy misfirePolicy; // Null uses quartz.misfire.default-policy
+    private String lane;      // Execution lane; null uses the group's lane (quartz.lanes.groups.<group>)
+    private Integer priority; // Quartz trigger priority; null uses the lane's priority
+
+    /**
+     * What happens to fires that were missed, e.g. while the scheduler was down.
+     */
+    public enum MisfirePolicy {
+        SKIP,      // Drop the missed fires and wait for the next scheduled one
+        FIRE_ONCE, // Fire once now for all missed fires, then resume the schedule
+        FIRE_ALL   // Fire every missed occurrence, paced by the catch-up throttle
+    }
 }
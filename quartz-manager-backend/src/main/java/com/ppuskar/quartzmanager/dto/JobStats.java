@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JobStats {
+    private String jobName;
+    private String jobGroup;
+    private String from;
+    private String to;
+    private long successCount;
+    private long failureCount;
+    private long vetoCount;
+    private double successRate;  // Successes over executed (non-vetoed) fires, 0..1
+    private long avgDuration;    // in milliseconds
+    private long p50Duration;
+    private long p95Duration;
+    private long p99Duration;
+    private long maxDuration;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LaneStatus {
+    private String lane;
+    private int reserved;
+    private int maxConcurrent; // 0 when the lane is only bounded by the pool
+    private int priority;
+    private int active;
+    private int queued;
+    private long started;
+    // Time between the scheduler handing a fire over and a worker starting it
+    private double avgQueueMs;
+    private double maxQueueMs;
+    private double oldestQueuedMs; // Age of the oldest fire still queued
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class PoolStatus {
+    private boolean adaptive; // False when disabled or the scheduler does not use VirtualThreadPool
+    private int size;
+    private int minSize;
+    private int maxSize;
+    private int busy;
+    // Signals of the last evaluation window
+    private String lastEvaluated;
+    private long fires;
+    private long misfires;
+    private long avgLagMs;
+    private long maxLagMs;
+    private double peakUtilization;
+    private int growStreak;
+    private int shrinkStreak;
+    private List<PoolDecision> decisions; // Most recent first
+}
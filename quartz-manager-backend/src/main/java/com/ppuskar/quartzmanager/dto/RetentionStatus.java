@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RetentionStatus {
+    private String mode;
+    private int retentionDays;
+    private boolean running;
+    private String lastRunStarted;
+    private String lastCutoff;
+    private boolean lastRunComplete; // False when the last run stopped at its time slice
+    private long lastRunDeleted;
+    private long lastRunBatches;
+    private long lastRunDurationMs;
+    private long totalDeleted;
+    private long droppedPartitions;
+}
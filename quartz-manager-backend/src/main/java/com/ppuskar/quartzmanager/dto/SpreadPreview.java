@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SpreadPreview {
+    private String group;
+    private Integer windowSeconds; // Null when each job uses its group's configured window
+    private String horizonStart;
+    private int horizonMinutes;
+    private int bucketSeconds;
+    private int jobs;          // Cron triggers considered
+    private int spreadJobs;    // Triggers whose expression the spread changes
+    private LoadProfile current;
+    private LoadProfile spread;
+}
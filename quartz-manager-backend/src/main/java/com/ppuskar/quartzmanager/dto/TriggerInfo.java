@@ -14,11 +14,12 @@
 
 package com.ppuskar.quartzmanager.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class TriggerInfo {
     private String triggerName;
     private String triggerGroup;
@@ -30,4 +31,9 @@ public class TriggerInfo {
     private String description;
     private java.util.Map<String, Object> jobDataMap;
     private String state;
+    // Epoch millis behind the display times, for sorting; null for Never / Completed
+    @JsonIgnore
+    private Long lastFireTime;
+    @JsonIgnore
+    private Long nextFireTime;
 }
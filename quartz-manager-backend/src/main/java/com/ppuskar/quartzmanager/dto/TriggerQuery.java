@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TriggerQuery {
+    private String group;
+    private String jobName; // Exact job name within group
+    private String state;   // Trigger.TriggerState name, e.g. NORMAL or PAUSED
+    private String sort;    // jobName, jobGroup, state, nextExecutionTime, lastExecutionTime
+    private boolean descending;
+    private Integer page;   // Zero based; null returns every match
+    private int size;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Load report of one scheduler instance, rewritten by that instance every report interval.
+ * Quartz only records cluster check-ins; this is what the nodes did in between.
+ */
+@Entity
+@Table(name = "cluster_nodes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterNode {
+
+    @Id
+    @Column(length = 200)
+    private String instanceId;
+
+    private String schedulerName;
+    private String host;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime reportedAt;
+
+    private long firesTotal;
+    private double firesPerSecond;   // over the last report interval
+    private long lockAcquisitions;   // TRIGGER_ACCESS acquisitions over the last report interval
+    private double lockWaitAvgMs;
+    private double lockWaitMaxMs;
+    private int poolSize;
+    private int busy;
+}
@@ -23,7 +23,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "execution_logs")
+@Table(name = "execution_logs", indexes = {
+        @Index(name = "idx_execution_logs_job_fire", columnList = "job_group, job_name, fire_time, id"),
+        @Index(name = "idx_execution_logs_job_status_fire", columnList = "job_group, job_name, status, fire_time, id"),
+        @Index(name = "idx_execution_logs_fire_time", columnList = "fire_time"),
+        @Index(name = "idx_execution_logs_origin", columnList = "origin_fire_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -49,6 +54,9 @@ public class ExecutionLog {
     @Column(length = 4096)
     private String message; // Error message or success result
 
+    private Integer attempt; // 1 for the original fire, then one per retry
+    private String originFireId; // Fire instance id of the first attempt; shared by all its retries
+
     public enum ExecutionStatus {
         SUCCESS,
         FAILURE,
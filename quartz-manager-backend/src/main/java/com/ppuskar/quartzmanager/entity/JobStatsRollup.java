@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.entity;
+
+import com.ppuskar.quartzmanager.stats.LatencyHistogram;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted statistics bucket for one job. Minute buckets are written as they close and
+ * later compacted into hour buckets; rows for the same job and start time are additive.
+ */
+@Entity
+@Table(name = "job_stats_rollups", indexes = {
+        @Index(name = "idx_job_stats_bucket", columnList = "granularity, bucket_start"),
+        @Index(name = "idx_job_stats_job_bucket", columnList = "job_group, job_name, bucket_start")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String jobName;
+    private String jobGroup;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Granularity granularity;
+
+    private LocalDateTime bucketStart;
+
+    private long successCount;
+    private long failureCount;
+    private long vetoCount;
+    private long totalDuration; // in milliseconds
+    private long maxDuration;   // in milliseconds
+
+    @Column(length = LatencyHistogram.MAX_ENCODED_BYTES)
+    private byte[] histogram; // LatencyHistogram sparse encoding
+
+    public enum Granularity {
+        MINUTE,
+        HOUR
+    }
+}
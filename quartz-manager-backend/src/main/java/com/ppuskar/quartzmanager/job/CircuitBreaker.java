@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-target circuit breaker for HttpJob. After {@code quartz.http.circuit.failure-threshold}
+ * consecutive transient failures (no response, or a status in the job's {@code retry.onStatus})
+ * the target is considered down for {@code quartz.http.circuit.open-ms}: fires are failed
+ * without sending anything. Then a single probe is let through; its outcome closes the
+ * circuit or opens it again. A probe that is not sent (e.g. it was deferred) is handed
+ * back with {@link #release}; one that never reports back is replaced after another open
+ * period.
+ * <p>
+ * Targets are the same as for {@link TargetLimiter}. Only targets that have failed have
+ * any state, so the check for a healthy target is a single map lookup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CircuitBreaker {
+
+    private final QuartzMetrics quartzMetrics;
+
+    @Value("${quartz.http.circuit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quartz.http.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${quartz.http.circuit.open-ms:30000}")
+    private long openMs;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * @return 0 if a request to the target may be sent, otherwise the milliseconds until
+     * the circuit lets the next probe through
+     */
+    public long tryAcquire(String target) {
+        if (!enabled) {
+            return 0;
+        }
+        Circuit circuit = circuits.get(target);
+        if (circuit == null) {
+            return 0;
+        }
+        long wait = circuit.tryAcquire(System.currentTimeMillis());
+        if (wait > 0) {
+            quartzMetrics.circuitRejected(target);
+        }
+        return wait;
+    }
+
+    /**
+     * @param failure whether the attempt failed transiently; other outcomes prove the target is up
+     */
+    public void record(String target, boolean failure) {
+        if (!enabled) {
+            return;
+        }
+        if (!failure) {
+            circuits.computeIfPresent(target, (k, circuit) -> {
+                boolean wasOpen = circuit.isOpen();
+                if (!circuit.onSuccess()) {
+                    return circuit;
+                }
+                if (wasOpen) {
+                    log.info("Circuit for target {} closed after a successful probe", target);
+                }
+                return null;
+            });
+            return;
+        }
+        circuits.compute(target, (k, circuit) -> {
+            Circuit c = circuit != null ? circuit : new Circuit();
+            if (c.onFailure(System.currentTimeMillis(), failureThreshold, openMs)) {
+                log.warn("Circuit for target {} opened for {} ms", target, openMs);
+                quartzMetrics.circuitOpened(target);
+            }
+            return c;
+        });
+    }
+
+    /**
+     * Hands back a probe taken by {@link #tryAcquire} whose request was not sent, so the
+     * next fire can probe right away instead of after another open period.
+     */
+    public void release(String target) {
+        if (!enabled) {
+            return;
+        }
+        Circuit circuit = circuits.get(target);
+        if (circuit != null) {
+            circuit.release(System.currentTimeMillis());
+        }
+    }
+
+    private final class Circuit {
+
+        private int consecutiveFailures;
+        private boolean open;
+        private boolean probing;
+        // While open: when the next probe may go out
+        private long retryAt;
+
+        synchronized long tryAcquire(long now) {
+            if (!open) {
+                return 0;
+            }
+            if (now < retryAt) {
+                return retryAt - now;
+            }
+            probing = true;
+            retryAt = now + openMs;
+            return 0;
+        }
+
+        synchronized void release(long now) {
+            if (open && probing) {
+                probing = false;
+                retryAt = now;
+            }
+        }
+
+        /**
+         * @return true if the circuit is closed and has no failures left to remember
+         */
+        synchronized boolean onSuccess() {
+            if (open && !probing) {
+                // A late response from before the circuit opened proves nothing about now
+                return false;
+            }
+            open = false;
+            probing = false;
+            consecutiveFailures = 0;
+            return true;
+        }
+
+        /**
+         * @return true if this failure opened the circuit
+         */
+        synchronized boolean onFailure(long now, int threshold, long openMs) {
+            if (open) {
+                if (probing) {
+                    probing = false;
+                    retryAt = now + openMs;
+                }
+                return false;
+            }
+            if (++consecutiveFailures >= threshold) {
+                open = true;
+                retryAt = now + openMs;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isOpen() {
+            return open;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * One attempt of a fire. Retries run on one-shot follow-up triggers that carry the
+ * attempt number and the fire instance id of the first attempt, so every attempt of
+ * the same fire can be linked in the execution history.
+ *
+ * @param attempt      1 for the original fire
+ * @param originFireId fire instance id of the first attempt; null if the job store did not assign one
+ */
+public record FireAttempt(JobKey jobKey, Trigger trigger, Date fireTime, int attempt, String originFireId) {
+
+    public static final String ATTEMPT = "retry.attempt";
+    public static final String ORIGIN = "retry.origin";
+    public static final String DEFERRALS = "limit.deferrals";
+    public static final String CATCH_UP = "catchup.released";
+
+    /**
+     * Trigger data keys maintained by the scheduler itself rather than the user. They
+     * change on every follow-up, so they are not part of a request template's fingerprint.
+     */
+    static final Set<String> BOOKKEEPING_KEYS = Set.of(ATTEMPT, ORIGIN, DEFERRALS, CATCH_UP);
+
+    public static FireAttempt of(JobExecutionContext context) {
+        Trigger trigger = context.getTrigger();
+        Object attempt = trigger.getJobDataMap().get(ATTEMPT);
+        Object origin = trigger.getJobDataMap().get(ORIGIN);
+        return new FireAttempt(context.getJobDetail().getKey(), trigger, context.getFireTime(),
+                attempt != null ? Integer.parseInt(attempt.toString()) : 1,
+                origin != null ? origin.toString() : context.getFireInstanceId());
+    }
+
+    public TriggerKey triggerKey() {
+        return trigger.getKey();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.ppuskar.quartzmanager.scheduler.JobDataCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Schedules the one-shot triggers that re-fire a job later instead of holding a worker
+ * thread: deferrals while the target is saturated, retries after a failed attempt, and
+ * catch-up fires paced after downtime. Follow-up triggers are named after the original
+ * trigger and carry its data, plus the bookkeeping keys from {@link FireAttempt}, all as
+ * strings so the job store can write them as properties.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowUpScheduler {
+
+    private static final String DEFERRED_SUFFIX = "_deferred_";
+    private static final String RETRY_SUFFIX = "_retry_";
+    private static final String CATCH_UP_SUFFIX = "_catchup_";
+
+    private final Scheduler scheduler;
+    private final TargetLimiter targetLimiter;
+    private final QuartzMetrics quartzMetrics;
+
+    /**
+     * Re-fires the same attempt once the target is expected to have room. Each attempt is
+     * deferred at most {@link TargetLimiter#getMaxDeferrals()} times.
+     *
+     * @return the reason to record for this fire
+     */
+    public String defer(FireAttempt fire, TargetLimiter.SaturatedException saturated)
+            throws SchedulerException, JobExecutionException {
+        JobDataMap triggerData = JobDataCodec.toJobDataMap(fire.trigger().getJobDataMap());
+        String previous = triggerData.getString(FireAttempt.DEFERRALS);
+        int deferrals = previous != null ? Integer.parseInt(previous) + 1 : 1;
+        if (deferrals > targetLimiter.getMaxDeferrals()) {
+            throw new JobExecutionException(saturated.getMessage() + "; gave up after "
+                    + targetLimiter.getMaxDeferrals() + " deferrals");
+        }
+        triggerData.put(FireAttempt.DEFERRALS, String.valueOf(deferrals));
+        if (fire.originFireId() != null) {
+            triggerData.put(FireAttempt.ORIGIN, fire.originFireId());
+        }
+
+        // Spread the deferred fires so they do not all come back at the same instant
+        long delay = Math.max(saturated.getRetryAfterMs(), 100);
+        delay += ThreadLocalRandom.current().nextLong(delay / 4 + 1);
+        schedule(fire, DEFERRED_SUFFIX, triggerData, delay);
+        return saturated.getMessage() + "; deferred by " + delay + " ms (" + deferrals + "/"
+                + targetLimiter.getMaxDeferrals() + ")";
+    }
+
+    /**
+     * Schedules the next attempt if the policy allows one for this failure.
+     *
+     * @param status     response status of the failed attempt, or null if none was received
+     * @param minDelayMs lower bound for the delay, e.g. until an open circuit lets a probe through
+     * @return a note for the execution history, or null if the attempt is not retried
+     */
+    public String retry(FireAttempt fire, RetryPolicy policy, Integer status, long minDelayMs) {
+        if (!policy.shouldRetry(fire.attempt(), status)) {
+            return null;
+        }
+        long delay = Math.max(policy.backoff(fire.attempt()), minDelayMs);
+        int next = fire.attempt() + 1;
+        JobDataMap triggerData = JobDataCodec.toJobDataMap(fire.trigger().getJobDataMap());
+        // A new attempt gets a fresh deferral budget
+        triggerData.remove(FireAttempt.DEFERRALS);
+        triggerData.put(FireAttempt.ATTEMPT, String.valueOf(next));
+        if (fire.originFireId() != null) {
+            triggerData.put(FireAttempt.ORIGIN, fire.originFireId());
+        }
+        try {
+            schedule(fire, RETRY_SUFFIX, triggerData, delay);
+        } catch (SchedulerException e) {
+            log.error("Failed to schedule retry of job {}", fire.jobKey(), e);
+            return "retry not scheduled: " + e.getMessage();
+        }
+        quartzMetrics.retryScheduled(fire.jobKey().getGroup());
+        log.info("Job {}: attempt {} failed, retry {}/{} in {} ms", fire.jobKey(), fire.attempt(), next,
+                policy.maxAttempts(), delay);
+        return "retry " + next + "/" + policy.maxAttempts() + " in " + delay + " ms";
+    }
+
+    /**
+     * Moves a recovered fire to its catch-up slot. The follow-up is marked as released so
+     * it is not throttled again.
+     */
+    public void catchUp(FireAttempt fire, long delayMs) throws SchedulerException {
+        JobDataMap triggerData = JobDataCodec.toJobDataMap(fire.trigger().getJobDataMap());
+        triggerData.put(FireAttempt.CATCH_UP, "true");
+        if (fire.originFireId() != null) {
+            triggerData.put(FireAttempt.ORIGIN, fire.originFireId());
+        }
+        schedule(fire, CATCH_UP_SUFFIX, triggerData, delayMs);
+    }
+
+    private void schedule(FireAttempt fire, String suffix, JobDataMap triggerData, long delayMs)
+            throws SchedulerException {
+        scheduler.scheduleJob(TriggerBuilder.newTrigger()
+                .withIdentity(baseName(fire.triggerKey().getName()) + suffix + UUID.randomUUID(),
+                        fire.triggerKey().getGroup())
+                .forJob(fire.jobKey())
+                .usingJobData(triggerData)
+                .withPriority(fire.trigger().getPriority())
+                .startAt(new Date(System.currentTimeMillis() + delayMs))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build());
+    }
+
+    static String baseName(String triggerName) {
+        int end = triggerName.length();
+        for (String suffix : new String[]{DEFERRED_SUFFIX, RETRY_SUFFIX, CATCH_UP_SUFFIX}) {
+            int index = triggerName.indexOf(suffix);
+            if (index >= 0 && index < end) {
+                end = index;
+            }
+        }
+        return triggerName.substring(0, end);
+    }
+}
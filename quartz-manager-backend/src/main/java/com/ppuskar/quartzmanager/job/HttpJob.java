@@ -14,6 +14,7 @@
 
 package com.ppuskar.quartzmanager.job;
 
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -21,69 +22,126 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.net.URI;
+import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 
 @Component
 public class HttpJob implements Job {
 
+    /**
+     * Context key set when the request was handed to {@link HttpJobDispatcher}. The history
+     * listener skips such fires; the dispatcher records them once the response arrives.
+     */
+    public static final String ASYNC_DISPATCHED = "httpJob.asyncDispatched";
+
+    /**
+     * Context key holding the reason when the fire was deferred to a one-shot trigger
+     * because its target was saturated. The history listener records it as vetoed.
+     */
+    public static final String DEFERRED = "httpJob.deferred";
+
     private static final Logger logger = LoggerFactory.getLogger(HttpJob.class);
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
+    private final HttpClient httpClient;
+    private final HttpJobDispatcher dispatcher;
+    private final QuartzMetrics quartzMetrics;
+    private final TargetLimiter targetLimiter;
+    private final HttpRequestTemplateCache templateCache;
+    private final CircuitBreaker circuitBreaker;
+    private final FollowUpScheduler followUpScheduler;
+
+    public HttpJob(HttpClient httpClient, HttpJobDispatcher dispatcher, QuartzMetrics quartzMetrics,
+                   TargetLimiter targetLimiter, HttpRequestTemplateCache templateCache,
+                   CircuitBreaker circuitBreaker, FollowUpScheduler followUpScheduler) {
+        this.httpClient = httpClient;
+        this.dispatcher = dispatcher;
+        this.quartzMetrics = quartzMetrics;
+        this.targetLimiter = targetLimiter;
+        this.templateCache = templateCache;
+        this.circuitBreaker = circuitBreaker;
+        this.followUpScheduler = followUpScheduler;
+    }
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
         try {
-            var jobDataMap = context.getMergedJobDataMap();
-            String url = jobDataMap.getString("url");
-            String method = jobDataMap.getString("method");
-            String body = jobDataMap.getString("body");
-
-            if (url == null || method == null) {
+            HttpRequestTemplate template = templateCache.get(context.getJobDetail().getKey(),
+                    context.getMergedJobDataMap());
+            if (template == null) {
                 logger.error("URL or Method not specified in JobDataMap");
                 return;
             }
+            HttpRequest request = template.request();
+            FireAttempt fire = FireAttempt.of(context);
+            String target = template.target().name();
 
-            HttpRequest.Builder builder = HttpRequest.newBuilder()
-                    .uri(URI.create(url));
-
-            switch (method.toUpperCase()) {
-                case "POST":
-                    builder.POST(HttpRequest.BodyPublishers.ofString(body != null ? body : ""));
-                    break;
-                case "PUT":
-                    builder.PUT(HttpRequest.BodyPublishers.ofString(body != null ? body : ""));
-                    break;
-                case "DELETE":
-                    builder.DELETE();
-                    break;
-                case "GET":
-                default:
-                    builder.GET();
-                    break;
+            long circuitOpenMs = circuitBreaker.tryAcquire(target);
+            if (circuitOpenMs > 0) {
+                throw failed(fire, template, null, circuitOpenMs,
+                        "Circuit open for target " + target + ", request not sent", null);
             }
 
-            // Headers
-            jobDataMap.forEach((k, v) -> {
-                if (k.startsWith("header.")) {
-                    builder.header(k.substring(7), v.toString());
+            TargetLimiter.Permit permit;
+            try {
+                permit = targetLimiter.acquire(template.target());
+                if (template.async() != null ? template.async() : dispatcher.isAsyncByDefault()) {
+                    logger.info("Dispatching async HTTP Job: {} {}", template.method(), template.uri());
+                    dispatcher.dispatch(template, permit, fire);
+                    context.put(ASYNC_DISPATCHED, Boolean.TRUE);
+                    return;
                 }
-            });
+            } catch (TargetLimiter.SaturatedException e) {
+                // Nothing was sent, so a probe taken above goes back to the circuit
+                circuitBreaker.release(target);
+                String reason = followUpScheduler.defer(fire, e);
+                logger.info("Job {}: {}", fire.jobKey(), reason);
+                context.put(DEFERRED, reason);
+                return;
+            }
 
-            HttpRequest request = builder.build();
-            logger.info("Executing HTTP Job: {} {}", method, url);
+            logger.info("Executing HTTP Job: {} {}", template.method(), template.uri());
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            long start = System.nanoTime();
+            HttpResponse<ResponseOutcome> response;
+            try (permit) {
+                response = httpClient.send(request, template.responsePolicy().bodyHandler());
+            } catch (IOException e) {
+                quartzMetrics.httpRequest(request.uri().getHost(), null, System.nanoTime() - start);
+                circuitBreaker.record(target, true);
+                logger.error("Error executing HTTP Job", e);
+                throw failed(fire, template, null, 0, e.toString(), e);
+            } catch (Exception e) {
+                quartzMetrics.httpRequest(request.uri().getHost(), null, System.nanoTime() - start);
+                throw e;
+            }
+            quartzMetrics.httpRequest(request.uri().getHost(), response.statusCode(), System.nanoTime() - start);
 
-            logger.info("Job executed. Status: {}, Body: {}", response.statusCode(), response.body());
+            ResponseOutcome outcome = response.body();
+            logger.info("Job executed. Status: {}, Body: {} bytes", response.statusCode(), outcome.bodyBytes());
+            logger.debug("Response snippet: {}", outcome.snippet());
+            circuitBreaker.record(target,
+                    !outcome.isSuccess() && template.retryPolicy().isTransient(outcome.statusCode()));
+            context.setResult(outcome.summary());
+            if (!outcome.isSuccess()) {
+                throw failed(fire, template, outcome.statusCode(), 0, outcome.summary(), null);
+            }
 
+        } catch (JobExecutionException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error executing HTTP Job", e);
             throw new JobExecutionException(e);
         }
     }
+
+    /**
+     * Fails this attempt, after scheduling the next one if the job's retry policy allows it.
+     */
+    private JobExecutionException failed(FireAttempt fire, HttpRequestTemplate template, Integer status,
+                                         long minRetryDelayMs, String message, Exception cause) {
+        String retry = followUpScheduler.retry(fire, template.retryPolicy(), status, minRetryDelayMs);
+        String summary = retry != null ? message + "; " + retry : message;
+        return cause != null ? new JobExecutionException(summary, cause) : new JobExecutionException(summary);
+    }
 }
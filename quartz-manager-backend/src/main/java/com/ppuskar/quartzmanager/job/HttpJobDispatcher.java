@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import com.ppuskar.quartzmanager.listener.ExecutionHistoryListener;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends HttpJob requests with {@link HttpClient#sendAsync} so the Quartz worker thread
+ * returns as soon as the request is on the wire. A global semaphore caps the number of
+ * requests in flight; the outcome is written to execution history when the response
+ * future completes.
+ */
+@Component
+@Slf4j
+public class HttpJobDispatcher {
+
+    private final HttpClient httpClient;
+    private final ExecutionHistoryListener executionHistoryListener;
+    private final QuartzMetrics quartzMetrics;
+    private final CircuitBreaker circuitBreaker;
+    private final FollowUpScheduler followUpScheduler;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    @Value("${quartz.http.async.enabled:false}")
+    private boolean asyncByDefault;
+
+    @Value("${quartz.http.async.defer-ms:1000}")
+    private long deferMs;
+
+    public HttpJobDispatcher(HttpClient httpClient,
+                             ExecutionHistoryListener executionHistoryListener,
+                             QuartzMetrics quartzMetrics,
+                             CircuitBreaker circuitBreaker,
+                             FollowUpScheduler followUpScheduler,
+                             @Value("${quartz.http.async.max-in-flight:1000}") int maxInFlight) {
+        this.httpClient = httpClient;
+        this.executionHistoryListener = executionHistoryListener;
+        this.quartzMetrics = quartzMetrics;
+        this.circuitBreaker = circuitBreaker;
+        this.followUpScheduler = followUpScheduler;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public boolean isAsyncByDefault() {
+        return asyncByDefault;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Takes an in-flight slot and fires the request without blocking the caller. The target
+     * permit is released when the response completes, or immediately if the request is not
+     * sent. The outcome feeds the target's circuit breaker, and a failed attempt is retried
+     * per the template's {@link RetryPolicy}.
+     *
+     * @throws TargetLimiter.SaturatedException if every slot is taken; the caller defers the
+     *                                          fire by {@code quartz.http.async.defer-ms}
+     */
+    public void dispatch(HttpRequestTemplate template, TargetLimiter.Permit permit, FireAttempt fire)
+            throws TargetLimiter.SaturatedException {
+        if (!inFlight.tryAcquire()) {
+            permit.close();
+            throw new TargetLimiter.SaturatedException(deferMs,
+                    "In-flight HTTP request limit reached (" + maxInFlight + ")");
+        }
+        HttpRequest request = template.request();
+        String target = template.target().name();
+        long start = System.nanoTime();
+        try {
+            httpClient.sendAsync(request, template.responsePolicy().bodyHandler())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        permit.close();
+                        long elapsed = System.nanoTime() - start;
+                        long duration = TimeUnit.NANOSECONDS.toMillis(elapsed);
+                        quartzMetrics.httpRequest(request.uri().getHost(),
+                                response != null ? response.statusCode() : null, elapsed);
+                        if (error != null) {
+                            log.error("Async HTTP Job {} failed", fire.jobKey(), error);
+                            circuitBreaker.record(target, true);
+                            executionHistoryListener.recordExecution(fire, duration,
+                                    ExecutionLog.ExecutionStatus.FAILURE,
+                                    withRetry(fire, template, null, String.valueOf(error.getMessage())));
+                        } else {
+                            ResponseOutcome outcome = response.body();
+                            log.info("Async job {} executed. Status: {}, Body: {} bytes", fire.jobKey(),
+                                    response.statusCode(), outcome.bodyBytes());
+                            circuitBreaker.record(target, !outcome.isSuccess()
+                                    && template.retryPolicy().isTransient(outcome.statusCode()));
+                            executionHistoryListener.recordExecution(fire, duration,
+                                    outcome.isSuccess() ? ExecutionLog.ExecutionStatus.SUCCESS
+                                            : ExecutionLog.ExecutionStatus.FAILURE,
+                                    outcome.isSuccess() ? outcome.summary()
+                                            : withRetry(fire, template, outcome.statusCode(), outcome.summary()));
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            permit.close();
+            throw e;
+        }
+    }
+
+    private String withRetry(FireAttempt fire, HttpRequestTemplate template, Integer status, String message) {
+        String retry = followUpScheduler.retry(fire, template.retryPolicy(), status, 0);
+        return retry != null ? message + "; " + retry : message;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The HTTP side of a job definition compiled from its job data map: the ready-to-send
+ * request (URI, method, headers and pre-encoded body), the response policy and the
+ * limiter target. {@link HttpRequest} is immutable, so one instance is sent on every fire.
+ *
+ * @param fingerprint hash of the job data the template was compiled from
+ * @param source      that job data without the follow-up bookkeeping keys
+ * @param async       the job's {@code async} setting, or null to use the global default
+ */
+public record HttpRequestTemplate(int fingerprint, Map<String, Object> source, String method, URI uri,
+                                  HttpRequest request, ResponsePolicy responsePolicy, RetryPolicy retryPolicy,
+                                  TargetLimiter.Target target, Boolean async) {
+
+    /**
+     * @param defaultTimeoutMs request timeout unless the job sets {@code timeoutMs}; 0 for none
+     * @return null if the job data has no {@code url} or {@code method}
+     */
+    static HttpRequestTemplate compile(Map<String, Object> jobData, int fingerprint, String jobGroup,
+                                       int defaultMaxResponseBytes, long defaultTimeoutMs,
+                                       RetryPolicy defaultRetryPolicy, TargetLimiter targetLimiter) {
+        Object url = jobData.get("url");
+        Object method = jobData.get("method");
+        if (url == null || method == null) {
+            return null;
+        }
+        Object body = jobData.get("body");
+        byte[] bodyBytes = (body != null ? body.toString() : "").getBytes(StandardCharsets.UTF_8);
+
+        URI uri = URI.create(url.toString());
+        HttpRequest.Builder builder = HttpRequest.newBuilder().uri(uri);
+        String methodName = method.toString().toUpperCase();
+        switch (methodName) {
+            case "POST" -> builder.POST(HttpRequest.BodyPublishers.ofByteArray(bodyBytes));
+            case "PUT" -> builder.PUT(HttpRequest.BodyPublishers.ofByteArray(bodyBytes));
+            case "DELETE" -> builder.DELETE();
+            default -> builder.GET();
+        }
+        Object timeout = jobData.get("timeoutMs");
+        long timeoutMs = timeout != null ? Long.parseLong(timeout.toString()) : defaultTimeoutMs;
+        if (timeoutMs > 0) {
+            // Bounds the whole exchange, so a target that accepts and never answers still frees its permits
+            builder.timeout(Duration.ofMillis(timeoutMs));
+        }
+        jobData.forEach((k, v) -> {
+            if (k.startsWith("header.")) {
+                builder.header(k.substring(7), v.toString());
+            }
+        });
+
+        Map<String, Object> source = new HashMap<>(jobData);
+        source.keySet().removeAll(FireAttempt.BOOKKEEPING_KEYS);
+        Object async = jobData.get("async");
+        return new HttpRequestTemplate(fingerprint, Collections.unmodifiableMap(source), methodName, uri, builder.build(),
+                ResponsePolicy.from(jobData, defaultMaxResponseBytes),
+                RetryPolicy.from(jobData, defaultRetryPolicy),
+                targetLimiter.resolve(uri, jobGroup, jobData),
+                async != null ? Boolean.valueOf(async.toString()) : null);
+    }
+
+    /**
+     * Whether the template was compiled from this job data, ignoring the follow-up
+     * bookkeeping keys. Confirms a fingerprint match, since different data can share a hash.
+     */
+    boolean compiledFrom(Map<String, Object> jobData) {
+        int bookkeeping = 0;
+        for (String key : FireAttempt.BOOKKEEPING_KEYS) {
+            if (jobData.containsKey(key)) {
+                bookkeeping++;
+            }
+        }
+        if (jobData.size() - bookkeeping != source.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = jobData.get(entry.getKey());
+            if (!Objects.equals(entry.getValue(), value) || (value == null && !jobData.containsKey(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
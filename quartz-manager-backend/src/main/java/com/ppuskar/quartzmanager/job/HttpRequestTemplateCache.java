@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled {@link HttpRequestTemplate}s by job. An entry is reused while the fire's merged
+ * job data equals the data it was compiled from, checked by fingerprint first, so edits
+ * made outside this instance (another cluster node, direct job store changes) are still
+ * picked up. {@code SchedulerService} also invalidates entries when it replaces or
+ * deletes a job.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HttpRequestTemplateCache {
+
+    private final TargetLimiter targetLimiter;
+
+    @Value("${quartz.http.response.max-bytes:4096}")
+    private int defaultMaxResponseBytes;
+
+    @Value("${quartz.http.request-timeout-ms:60000}")
+    private long defaultTimeoutMs;
+
+    @Value("${quartz.http.template-cache.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${quartz.http.retry.max-attempts:1}")
+    private int defaultMaxAttempts;
+
+    @Value("${quartz.http.retry.backoff-ms:1000}")
+    private long defaultBackoffMs;
+
+    @Value("${quartz.http.retry.multiplier:2.0}")
+    private double defaultMultiplier;
+
+    @Value("${quartz.http.retry.max-backoff-ms:60000}")
+    private long defaultMaxBackoffMs;
+
+    @Value("${quartz.http.retry.on-status:" + RetryPolicy.DEFAULT_ON_STATUS + "}")
+    private String defaultOnStatus;
+
+    @Value("${quartz.http.retry.on-error:true}")
+    private boolean defaultOnError;
+
+    private RetryPolicy defaultRetryPolicy;
+
+    private final Map<JobKey, HttpRequestTemplate> templates = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        defaultRetryPolicy = new RetryPolicy(Math.max(defaultMaxAttempts, 1), defaultBackoffMs, defaultMultiplier,
+                defaultMaxBackoffMs, ResponsePolicy.parseStatus(defaultOnStatus), defaultOnError);
+    }
+
+    /**
+     * @return the template for the job's current data, or null if it has no url or method
+     */
+    public HttpRequestTemplate get(JobKey jobKey, Map<String, Object> mergedJobData) {
+        int fingerprint = fingerprint(mergedJobData);
+        HttpRequestTemplate template = templates.get(jobKey);
+        if (template != null && template.fingerprint() == fingerprint && template.compiledFrom(mergedJobData)) {
+            return template;
+        }
+        template = HttpRequestTemplate.compile(mergedJobData, fingerprint, jobKey.getGroup(),
+                defaultMaxResponseBytes, defaultTimeoutMs, defaultRetryPolicy, targetLimiter);
+        if (template != null) {
+            if (templates.size() >= maxEntries) {
+                log.warn("Request template cache reached {} entries, clearing", maxEntries);
+                templates.clear();
+            }
+            templates.put(jobKey, template);
+        }
+        return template;
+    }
+
+    /**
+     * Hash of the job data without the follow-up bookkeeping keys, so retries and
+     * deferrals of a job reuse its template. Map hash codes are the sum of the entry hash
+     * codes, which lets those entries be subtracted instead of copying the map.
+     */
+    static int fingerprint(Map<String, Object> jobData) {
+        int hash = jobData.hashCode();
+        for (String key : FireAttempt.BOOKKEEPING_KEYS) {
+            Object value = jobData.get(key);
+            if (value != null) {
+                hash -= key.hashCode() ^ value.hashCode();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Compiles the job's request definition without caching it, so settings that cannot
+     * be parsed reject the job when it is scheduled instead of failing every fire.
+     *
+     * @throws IllegalArgumentException if the url, headers, timeout, response or retry settings are invalid
+     */
+    public void validate(JobKey jobKey, Map<String, Object> jobData) {
+        HttpRequestTemplate.compile(jobData, 0, jobKey.getGroup(), defaultMaxResponseBytes, defaultTimeoutMs,
+                defaultRetryPolicy, targetLimiter);
+    }
+
+    public void invalidate(JobKey jobKey) {
+        templates.remove(jobKey);
+    }
+
+    public int size() {
+        return templates.size();
+    }
+}
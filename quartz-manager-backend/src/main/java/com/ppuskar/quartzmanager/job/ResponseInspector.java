@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.core.async.ByteBufferFeeder;
+import tools.jackson.core.json.JsonFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Consumes a response body chunk by chunk for a {@link ResponsePolicy}. It keeps at most
+ * the capture limit, searches for the expected substring across chunk boundaries, and
+ * feeds a non-blocking JSON parser that stops once the expected field has been seen.
+ * Memory use does not depend on the body size.
+ */
+final class ResponseInspector implements Flow.Subscriber<List<ByteBuffer>> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ResponsePolicy policy;
+    private final int statusCode;
+
+    private final byte[] captured;
+    private int capturedLength;
+    private long bodyBytes;
+
+    private final int[] containsTable;
+    private int containsMatched;
+    private boolean containsFound;
+
+    private JsonParser jsonParser;
+    private boolean jsonDone;
+    private String jsonFailure;
+
+    ResponseInspector(ResponsePolicy policy, int statusCode) {
+        this.policy = policy;
+        this.statusCode = statusCode;
+        this.captured = new byte[policy.captureLimit()];
+        this.containsTable = policy.expectContains() != null ? failureTable(policy.expectContains()) : null;
+        if (policy.jsonPath() != null) {
+            jsonParser = JSON_FACTORY.createNonBlockingByteBufferParser(ObjectReadContext.empty());
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        for (ByteBuffer buffer : buffers) {
+            bodyBytes += buffer.remaining();
+            capture(buffer.duplicate());
+            if (containsTable != null && !containsFound) {
+                search(buffer.duplicate());
+            }
+            if (jsonParser != null && !jsonDone) {
+                parse(buffer);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeParser();
+    }
+
+    @Override
+    public void onComplete() {
+        if (jsonParser != null && !jsonDone) {
+            ((ByteBufferFeeder) jsonParser.nonBlockingInputFeeder()).endOfInput();
+            advanceParser();
+        }
+        closeParser();
+    }
+
+    ResponseOutcome outcome() {
+        String snippet = new String(captured, 0, capturedLength, StandardCharsets.UTF_8);
+        return new ResponseOutcome(statusCode, snippet, bodyBytes, bodyBytes > capturedLength, failure());
+    }
+
+    private String failure() {
+        if (!policy.acceptsStatus(statusCode)) {
+            return "unexpected status";
+        }
+        if (containsTable != null && !containsFound) {
+            return "body does not contain '" + new String(policy.expectContains(), StandardCharsets.UTF_8) + "'";
+        }
+        if (policy.jsonPath() != null) {
+            if (jsonFailure != null) {
+                return jsonFailure;
+            }
+            if (!jsonDone) {
+                return "JSON path " + String.join(".", policy.jsonPath()) + " not found";
+            }
+        }
+        return null;
+    }
+
+    private void capture(ByteBuffer buffer) {
+        int n = Math.min(captured.length - capturedLength, buffer.remaining());
+        if (n > 0) {
+            buffer.get(captured, capturedLength, n);
+            capturedLength += n;
+        }
+    }
+
+    /**
+     * Knuth-Morris-Pratt step over one chunk; the match state carries over to the next.
+     */
+    private void search(ByteBuffer buffer) {
+        byte[] needle = policy.expectContains();
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            while (containsMatched > 0 && needle[containsMatched] != b) {
+                containsMatched = containsTable[containsMatched - 1];
+            }
+            if (needle[containsMatched] == b) {
+                containsMatched++;
+            }
+            if (containsMatched == needle.length) {
+                containsFound = true;
+                return;
+            }
+        }
+    }
+
+    private static int[] failureTable(byte[] needle) {
+        int[] table = new int[needle.length];
+        for (int i = 1, k = 0; i < needle.length; i++) {
+            while (k > 0 && needle[i] != needle[k]) {
+                k = table[k - 1];
+            }
+            if (needle[i] == needle[k]) {
+                k++;
+            }
+            table[i] = k;
+        }
+        return table;
+    }
+
+    private void parse(ByteBuffer buffer) {
+        try {
+            ((ByteBufferFeeder) jsonParser.nonBlockingInputFeeder()).feedInput(buffer);
+            advanceParser();
+        } catch (JacksonException e) {
+            fail("invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Reads tokens until the parser needs more input, the body ends or the expected
+     * field has been found.
+     */
+    private void advanceParser() {
+        try {
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (token.isScalarValue() && matchesPath(jsonParser.streamReadContext())) {
+                    String expected = policy.jsonValue();
+                    String actual = token == JsonToken.VALUE_NULL ? "null" : jsonParser.getString();
+                    if (expected == null || expected.equals(actual)) {
+                        jsonDone = true;
+                    } else {
+                        fail("JSON path " + String.join(".", policy.jsonPath()) + " is '" + actual + "'");
+                    }
+                    closeParser();
+                    return;
+                }
+            }
+        } catch (JacksonException e) {
+            fail("invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private boolean matchesPath(TokenStreamContext context) {
+        String[] path = policy.jsonPath();
+        TokenStreamContext current = context;
+        for (int i = path.length - 1; i >= 0; i--) {
+            if (current == null || !current.inObject() || !path[i].equals(current.currentName())) {
+                return false;
+            }
+            current = current.getParent();
+        }
+        return current != null && current.inRoot();
+    }
+
+    private void fail(String reason) {
+        jsonFailure = reason;
+        jsonDone = true;
+        closeParser();
+    }
+
+    private void closeParser() {
+        if (jsonParser != null) {
+            jsonParser.close();
+            jsonParser = null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+/**
+ * What an HttpJob kept of a response: the status, the captured prefix of the body and,
+ * if the response did not satisfy the job's {@link ResponsePolicy}, the reason.
+ *
+ * @param bodyBytes total body size as received, including the part that was not kept
+ * @param failure   null if the response was accepted
+ */
+public record ResponseOutcome(int statusCode, String snippet, long bodyBytes, boolean truncated, String failure) {
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Execution result stored in history, e.g. {@code HTTP 200: {"ok":true}}.
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder("HTTP ").append(statusCode);
+        if (failure != null) {
+            summary.append(" - ").append(failure);
+        }
+        if (!snippet.isEmpty()) {
+            summary.append(": ").append(snippet);
+            if (truncated) {
+                summary.append("... (").append(bodyBytes).append(" bytes)");
+            }
+        }
+        return summary.toString();
+    }
+}
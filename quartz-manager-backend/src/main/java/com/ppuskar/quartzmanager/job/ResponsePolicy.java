@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * How an HttpJob reads and judges its response, taken from the job data map:
+ * <ul>
+ *     <li>{@code response.mode} - {@code CAPTURE} (default) keeps the first
+ *     {@code response.maxBytes} bytes as the execution result, {@code DISCARD} keeps none</li>
+ *     <li>{@code response.expectStatus} - accepted status codes, e.g. {@code 200,204} or {@code 2xx}</li>
+ *     <li>{@code response.expectContains} - text that must appear somewhere in the body</li>
+ *     <li>{@code response.expectJsonPath} / {@code response.expectJsonValue} - a dotted field path
+ *     (e.g. {@code $.data.status}) that must hold a scalar value, optionally equal to the given value</li>
+ * </ul>
+ * The body is streamed through {@link ResponseInspector}; only the captured prefix is ever
+ * held in memory, whatever the size of the response.
+ */
+public record ResponsePolicy(Mode mode, int maxBytes, boolean[] expectedStatus, byte[] expectContains,
+                             String[] jsonPath, String jsonValue) {
+
+    public static final String MODE = "response.mode";
+    public static final String MAX_BYTES = "response.maxBytes";
+    public static final String EXPECT_STATUS = "response.expectStatus";
+    public static final String EXPECT_CONTAINS = "response.expectContains";
+    public static final String EXPECT_JSON_PATH = "response.expectJsonPath";
+    public static final String EXPECT_JSON_VALUE = "response.expectJsonValue";
+
+    public enum Mode {
+        CAPTURE,
+        DISCARD
+    }
+
+    public static ResponsePolicy from(Map<String, Object> jobData, int defaultMaxBytes) {
+        String mode = string(jobData, MODE);
+        String maxBytes = string(jobData, MAX_BYTES);
+        String status = string(jobData, EXPECT_STATUS);
+        String contains = string(jobData, EXPECT_CONTAINS);
+        String jsonPath = string(jobData, EXPECT_JSON_PATH);
+        return new ResponsePolicy(
+                mode != null ? Mode.valueOf(mode.trim().toUpperCase()) : Mode.CAPTURE,
+                maxBytes != null ? Integer.parseInt(maxBytes.trim()) : defaultMaxBytes,
+                status != null ? parseStatus(status) : null,
+                contains != null && !contains.isEmpty() ? contains.getBytes(StandardCharsets.UTF_8) : null,
+                jsonPath != null ? parsePath(jsonPath) : null,
+                string(jobData, EXPECT_JSON_VALUE));
+    }
+
+    public int captureLimit() {
+        return mode == Mode.DISCARD ? 0 : Math.max(maxBytes, 0);
+    }
+
+    public boolean acceptsStatus(int statusCode) {
+        return expectedStatus == null
+                || (statusCode >= 0 && statusCode < expectedStatus.length && expectedStatus[statusCode]);
+    }
+
+    public HttpResponse.BodyHandler<ResponseOutcome> bodyHandler() {
+        return info -> {
+            ResponseInspector inspector = new ResponseInspector(this, info.statusCode());
+            return HttpResponse.BodySubscribers.fromSubscriber(inspector, ResponseInspector::outcome);
+        };
+    }
+
+    /**
+     * Parses {@code 200,201,3xx}: exact codes and whole classes, within 100-599.
+     *
+     * @throws IllegalArgumentException naming the part that is not a valid code or class
+     */
+    static boolean[] parseStatus(String spec) {
+        boolean[] accepted = new boolean[600];
+        for (String part : spec.split(",")) {
+            String code = part.trim().toLowerCase();
+            if (code.isEmpty()) {
+                continue;
+            }
+            if (code.length() == 3 && code.endsWith("xx")) {
+                int base = Character.digit(code.charAt(0), 10) * 100;
+                if (base < 100 || base >= accepted.length) {
+                    throw new IllegalArgumentException("Invalid status class: " + part.trim());
+                }
+                for (int i = base; i < base + 100; i++) {
+                    accepted[i] = true;
+                }
+            } else {
+                int status;
+                try {
+                    status = Integer.parseInt(code);
+                } catch (NumberFormatException e) {
+                    status = -1;
+                }
+                if (status < 100 || status >= accepted.length) {
+                    throw new IllegalArgumentException("Invalid status code: " + part.trim());
+                }
+                accepted[status] = true;
+            }
+        }
+        return accepted;
+    }
+
+    static String[] parsePath(String path) {
+        String trimmed = path.trim();
+        if (trimmed.startsWith("$.")) {
+            trimmed = trimmed.substring(2);
+        } else if (trimmed.startsWith("$")) {
+            trimmed = trimmed.substring(1);
+        }
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Empty JSON path: " + path);
+        }
+        return trimmed.split("\\.");
+    }
+
+    private static String string(Map<String, Object> jobData, String key) {
+        Object value = jobData.get(key);
+        return value != null ? value.toString() : null;
+    }
+}
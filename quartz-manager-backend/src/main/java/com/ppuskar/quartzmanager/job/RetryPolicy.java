@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When and how often a failed HttpJob fire is retried, read from the job data:
+ * <ul>
+ *     <li>{@code retry.maxAttempts} - attempts including the first; 1 disables retries</li>
+ *     <li>{@code retry.backoffMs} - delay before the second attempt</li>
+ *     <li>{@code retry.multiplier} - growth of the delay per attempt</li>
+ *     <li>{@code retry.maxBackoffMs} - upper bound of the delay</li>
+ *     <li>{@code retry.onStatus} - retryable status codes, e.g. {@code 5xx,429}</li>
+ *     <li>{@code retry.onError} - whether I/O errors (no response) are retried</li>
+ * </ul>
+ * The retryable statuses also decide what the per-target {@link CircuitBreaker} counts as
+ * a failure, so they apply even when retries are disabled.
+ */
+public record RetryPolicy(int maxAttempts, long backoffMs, double multiplier, long maxBackoffMs,
+                          boolean[] retryOnStatus, boolean retryOnError) {
+
+    public static final String MAX_ATTEMPTS = "retry.maxAttempts";
+    public static final String BACKOFF_MS = "retry.backoffMs";
+    public static final String MULTIPLIER = "retry.multiplier";
+    public static final String MAX_BACKOFF_MS = "retry.maxBackoffMs";
+    public static final String ON_STATUS = "retry.onStatus";
+    public static final String ON_ERROR = "retry.onError";
+
+    static final String DEFAULT_ON_STATUS = "5xx,429";
+
+    public static RetryPolicy from(Map<String, Object> jobData, RetryPolicy defaults) {
+        Object maxAttempts = jobData.get(MAX_ATTEMPTS);
+        Object backoff = jobData.get(BACKOFF_MS);
+        Object multiplier = jobData.get(MULTIPLIER);
+        Object maxBackoff = jobData.get(MAX_BACKOFF_MS);
+        Object onStatus = jobData.get(ON_STATUS);
+        Object onError = jobData.get(ON_ERROR);
+        if (maxAttempts == null && backoff == null && multiplier == null && maxBackoff == null
+                && onStatus == null && onError == null) {
+            return defaults;
+        }
+        return new RetryPolicy(
+                maxAttempts != null ? Math.max(Integer.parseInt(maxAttempts.toString().trim()), 1)
+                        : defaults.maxAttempts(),
+                backoff != null ? Long.parseLong(backoff.toString().trim()) : defaults.backoffMs(),
+                multiplier != null ? Double.parseDouble(multiplier.toString().trim()) : defaults.multiplier(),
+                maxBackoff != null ? Long.parseLong(maxBackoff.toString().trim()) : defaults.maxBackoffMs(),
+                onStatus != null ? ResponsePolicy.parseStatus(onStatus.toString()) : defaults.retryOnStatus(),
+                onError != null ? Boolean.parseBoolean(onError.toString().trim()) : defaults.retryOnError());
+    }
+
+    /**
+     * @param status the response status, or null if no response was received
+     * @return whether the failure points at the target rather than at the request
+     */
+    public boolean isTransient(Integer status) {
+        return status == null || (status >= 0 && status < retryOnStatus.length && retryOnStatus[status]);
+    }
+
+    /**
+     * @param attempt the attempt that just failed, starting at 1
+     */
+    public boolean shouldRetry(int attempt, Integer status) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        return status == null ? retryOnError : isTransient(status);
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": a random delay between half and all of
+     * the computed backoff, so fires that failed together do not retry together.
+     */
+    public long backoff(int attempt) {
+        double delay = backoffMs * Math.pow(multiplier, Math.max(attempt - 1, 0));
+        long capped = (long) Math.min(delay, maxBackoffMs);
+        if (capped <= 0) {
+            return 0;
+        }
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+}
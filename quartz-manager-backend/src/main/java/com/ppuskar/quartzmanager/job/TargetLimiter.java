@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-target bulkheads and token-bucket rate limits for HttpJob. A target is the request
+ * host, or the job group with {@code quartz.http.limits.partition=GROUP}; a job can name
+ * its target explicitly with {@code limit.key}. Limits are resolved in this order:
+ * <ol>
+ *     <li>{@code quartz.http.limits.targets.<target>.max-concurrent / rate-per-second / burst}</li>
+ *     <li>{@code limit.maxConcurrent / limit.ratePerSecond / limit.burst} in the job data map</li>
+ *     <li>{@code quartz.http.limits.max-concurrent / rate-per-second / burst}</li>
+ * </ol>
+ * Zero means unlimited. Jobs sharing a target should agree on their limits; a change
+ * replaces the target's limiter.
+ * <p>
+ * Callers wait for their turn up to {@code quartz.http.limits.max-wait-ms}; past that the
+ * acquire fails with the delay after which a retry is likely to succeed, so the fire can
+ * be deferred instead of failed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TargetLimiter {
+
+    public static final String KEY = "limit.key";
+    public static final String MAX_CONCURRENT = "limit.maxConcurrent";
+    public static final String RATE_PER_SECOND = "limit.ratePerSecond";
+    public static final String BURST = "limit.burst";
+
+    private static final String TARGETS_PREFIX = "quartz.http.limits.targets.";
+
+    public enum Partition {
+        HOST,
+        GROUP
+    }
+
+    private final Environment environment;
+    private final QuartzMetrics quartzMetrics;
+
+    @Value("${quartz.http.limits.partition:HOST}")
+    private Partition partition;
+
+    @Value("${quartz.http.limits.max-concurrent:0}")
+    private int defaultMaxConcurrent;
+
+    @Value("${quartz.http.limits.rate-per-second:0}")
+    private double defaultRatePerSecond;
+
+    @Value("${quartz.http.limits.burst:0}")
+    private int defaultBurst;
+
+    @Value("${quartz.http.limits.max-wait-ms:5000}")
+    private long maxWaitMs;
+
+    @Value("${quartz.http.limits.max-deferrals:10}")
+    private int maxDeferrals;
+
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Held while a request to the target is in flight; {@link #close()} is idempotent.
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Thrown when the target stayed saturated for longer than the maximum wait.
+     */
+    public static class SaturatedException extends Exception {
+        private final long retryAfterMs;
+
+        public SaturatedException(String target, long retryAfterMs) {
+            this(retryAfterMs, "Target " + target + " is saturated");
+        }
+
+        SaturatedException(long retryAfterMs, String message) {
+            super(message);
+            this.retryAfterMs = retryAfterMs;
+        }
+
+        public long getRetryAfterMs() {
+            return retryAfterMs;
+        }
+    }
+
+    record Settings(int maxConcurrent, double ratePerSecond, int burst) {
+        boolean unlimited() {
+            return maxConcurrent <= 0 && ratePerSecond <= 0;
+        }
+    }
+
+    /**
+     * A resolved target and its limits, computed once per job definition by
+     * {@link #resolve} so fires do not repeat the property lookups.
+     */
+    public record Target(String name, Settings settings) {
+    }
+
+    /**
+     * How often one fire may be deferred before it is recorded as failed.
+     */
+    public int getMaxDeferrals() {
+        return maxDeferrals;
+    }
+
+    public Target resolve(URI uri, String jobGroup, Map<String, Object> jobData) {
+        Object explicitKey = jobData.get(KEY);
+        String target = explicitKey != null ? explicitKey.toString()
+                : partition == Partition.GROUP ? jobGroup : uri.getHost();
+        return new Target(target, settings(target, jobData));
+    }
+
+    public Permit acquire(Target target) throws SaturatedException, InterruptedException {
+        Settings settings = target.settings();
+        if (settings.unlimited()) {
+            return () -> {
+            };
+        }
+        Limiter limiter = limiters.get(target.name());
+        if (limiter == null || !limiter.settings.equals(settings)) {
+            limiter = limiters.compute(target.name(), (k, current) ->
+                    current != null && current.settings.equals(settings) ? current : newLimiter(k, settings, current));
+        }
+        return limiter.acquire(TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+    }
+
+    private Settings settings(String target, Map<String, Object> jobData) {
+        String prefix = TARGETS_PREFIX + target + ".";
+        int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class,
+                intValue(jobData.get(MAX_CONCURRENT), defaultMaxConcurrent));
+        double rate = environment.getProperty(prefix + "rate-per-second", Double.class,
+                doubleValue(jobData.get(RATE_PER_SECOND), defaultRatePerSecond));
+        int burst = environment.getProperty(prefix + "burst", Integer.class,
+                intValue(jobData.get(BURST), defaultBurst));
+        return new Settings(maxConcurrent, rate, burst > 0 ? burst : Math.max(1, (int) Math.ceil(rate)));
+    }
+
+    private Limiter newLimiter(String target, Settings settings, Limiter previous) {
+        if (previous != null) {
+            log.info("Limits for target {} changed to {}", target, settings);
+        } else {
+            log.info("Limiting target {}: {}", target, settings);
+        }
+        Limiter limiter = new Limiter(target, settings);
+        quartzMetrics.registerTargetLimiter(target, limiter.active::get, limiter.waiting::get);
+        return limiter;
+    }
+
+    private static int intValue(Object value, int fallback) {
+        return value != null ? Integer.parseInt(value.toString().trim()) : fallback;
+    }
+
+    private static double doubleValue(Object value, double fallback) {
+        return value != null ? Double.parseDouble(value.toString().trim()) : fallback;
+    }
+
+    private final class Limiter {
+
+        private final String target;
+        private final Settings settings;
+        private final Semaphore concurrency;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        // Token bucket; tokens may go negative to hand out reservations in arrival order
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        Limiter(String target, Settings settings) {
+            this.target = target;
+            this.settings = settings;
+            this.concurrency = settings.maxConcurrent() > 0 ? new Semaphore(settings.maxConcurrent(), true) : null;
+            this.tokens = settings.burst();
+        }
+
+        Permit acquire(long maxWaitNanos) throws SaturatedException, InterruptedException {
+            long start = System.nanoTime();
+            waiting.incrementAndGet();
+            try {
+                if (settings.ratePerSecond() > 0) {
+                    long delay = reserve(maxWaitNanos);
+                    if (delay < 0) {
+                        quartzMetrics.targetSaturated(target);
+                        throw new SaturatedException(target, TimeUnit.NANOSECONDS.toMillis(-delay));
+                    }
+                    if (delay > 0) {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    }
+                }
+                if (concurrency != null) {
+                    long remaining = maxWaitNanos - (System.nanoTime() - start);
+                    if (!concurrency.tryAcquire(Math.max(remaining, 0), TimeUnit.NANOSECONDS)) {
+                        quartzMetrics.targetSaturated(target);
+                        throw new SaturatedException(target, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+                    }
+                }
+            } finally {
+                waiting.decrementAndGet();
+                quartzMetrics.targetWait(target, System.nanoTime() - start);
+            }
+            active.incrementAndGet();
+            return new Permit() {
+                private boolean released;
+
+                @Override
+                public synchronized void close() {
+                    if (!released) {
+                        released = true;
+                        active.decrementAndGet();
+                        if (concurrency != null) {
+                            concurrency.release();
+                        }
+                    }
+                }
+            };
+        }
+
+        /**
+         * Takes a token, possibly from the future.
+         *
+         * @return nanos to wait before the token is valid, or minus the wait that would have
+         * been needed if that exceeds the maximum (nothing is reserved in that case)
+         */
+        private synchronized long reserve(long maxWaitNanos) {
+            long now = System.nanoTime();
+            double rate = settings.ratePerSecond();
+            tokens = Math.min(settings.burst(), tokens + (now - refilledAt) * rate / 1e9);
+            refilledAt = now;
+            long wait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / rate * 1e9);
+            if (wait > maxWaitNanos) {
+                return -wait;
+            }
+            tokens -= 1;
+            return wait;
+        }
+    }
+}
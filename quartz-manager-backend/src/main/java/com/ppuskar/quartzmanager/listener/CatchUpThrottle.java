@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.listener;
+
+import com.ppuskar.quartzmanager.job.FireAttempt;
+import com.ppuskar.quartzmanager.job.FollowUpScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronTrigger;
+import org.quartz.JobExecutionContext;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.TriggerListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Paces the fires that recover missed schedules, e.g. after a deploy or an outage, so they
+ * do not all run in the first seconds after startup. A fire counts as recovered if its
+ * trigger just misfired and was set to fire now, or if it runs more than the job store's
+ * misfire threshold after its scheduled time (cron jobs that fire every missed occurrence).
+ * <p>
+ * Recovered fires take a slot from a global token bucket. A fire whose slot is in the
+ * future is vetoed and moved to a one-shot trigger at that slot; it is recorded as vetoed
+ * with the reason. On-time fires are never throttled.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatchUpThrottle implements TriggerListener {
+
+    /**
+     * Context key holding the reason when a recovered fire was moved to its catch-up slot.
+     */
+    public static final String DEFERRED = "catchUp.deferred";
+
+    private final FollowUpScheduler followUpScheduler;
+
+    @Value("${quartz.misfire.catch-up.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quartz.misfire.catch-up.rate-per-second:20}")
+    private double ratePerSecond;
+
+    @Value("${quartz.misfire.catch-up.burst:20}")
+    private int burst;
+
+    @Value("${spring.quartz.properties.org.quartz.jobStore.misfireThreshold:60000}")
+    private long misfireThresholdMs;
+
+    private final Set<TriggerKey> misfired = ConcurrentHashMap.newKeySet();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+    // Time at which the bucket is empty again; advances by one interval per slot handed out
+    private double nextFree;
+
+    @Override
+    public String getName() {
+        return "CatchUpThrottle";
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        // Called before the misfire instruction is applied. Triggers told to skip missed
+        // fires will next fire on schedule, so there is nothing to catch up
+        if (enabled && trigger.getMisfireInstruction() != CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING) {
+            misfired.add(trigger.getKey());
+        }
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        // No-op
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        boolean wasMisfired = misfired.remove(trigger.getKey());
+        if (!enabled) {
+            return false;
+        }
+        if (trigger.getJobDataMap().containsKey(FireAttempt.CATCH_UP)) {
+            backlog.updateAndGet(n -> Math.max(n - 1, 0));
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        boolean late = context.getScheduledFireTime() != null
+                && now - context.getScheduledFireTime().getTime() > misfireThresholdMs;
+        if (!wasMisfired && !late) {
+            return false;
+        }
+        recovered.incrementAndGet();
+        long delay = reserve(now);
+        if (delay <= 0) {
+            return false;
+        }
+        try {
+            followUpScheduler.catchUp(FireAttempt.of(context), delay);
+        } catch (SchedulerException e) {
+            log.error("Failed to schedule catch-up fire for {}, running it now", trigger.getJobKey(), e);
+            return false;
+        }
+        deferred.incrementAndGet();
+        backlog.incrementAndGet();
+        String reason = "Missed fire recovered; catch-up throttled by " + delay + " ms";
+        log.debug("Job {}: {}", trigger.getJobKey(), reason);
+        context.put(DEFERRED, reason);
+        return true;
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+        // No-op
+    }
+
+    /**
+     * @return how long the fire has to wait for its slot, 0 if it may run now
+     */
+    synchronized long reserve(long now) {
+        double interval = 1000.0 / ratePerSecond;
+        // Unused capacity accumulates up to the burst size, the slot at now included
+        nextFree = Math.max(nextFree, now - (Math.max(burst, 1) - 1) * interval);
+        double slot = nextFree;
+        nextFree += interval;
+        return Math.max((long) Math.ceil(slot - now), 0);
+    }
+
+    public long getRecoveredCount() {
+        return recovered.get();
+    }
+
+    public long getDeferredCount() {
+        return deferred.get();
+    }
+
+    /**
+     * Recovered fires moved to a catch-up slot that have not run yet.
+     */
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * Milliseconds until a newly recovered fire would get a slot.
+     */
+    public synchronized double getCatchUpDelayMs() {
+        return Math.max(nextFree - System.currentTimeMillis(), 0);
+    }
+}
@@ -15,25 +15,30 @@
 package com.ppuskar.quartzmanager.listener;
 
 import com.ppuskar.quartzmanager.entity.ExecutionLog;
-import com.ppuskar.quartzmanager.repository.ExecutionLogRepository;
+import com.ppuskar.quartzmanager.job.FireAttempt;
+import com.ppuskar.quartzmanager.job.HttpJob;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.ppuskar.quartzmanager.service.ExecutionLogWriter;
+import com.ppuskar.quartzmanager.service.JobStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
 import org.quartz.JobListener;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Date;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ExecutionHistoryListener implements JobListener {
 
-    private final ExecutionLogRepository executionLogRepository;
+    private final ExecutionLogWriter executionLogWriter;
+    private final JobStatsService jobStatsService;
+    private final QuartzMetrics quartzMetrics;
 
     @Override
     public String getName() {
@@ -47,12 +52,19 @@ public class ExecutionHistoryListener implements JobListener {
 
     @Override
     public void jobExecutionVetoed(JobExecutionContext context) {
-        saveLog(context, ExecutionLog.ExecutionStatus.VETOED, "Job execution vetoed");
+        Object reason = context.get(CatchUpThrottle.DEFERRED);
+        saveLog(context, ExecutionLog.ExecutionStatus.VETOED, reason != null ? reason.toString() : "Job execution vetoed");
     }
 
     @Override
     public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
-        if (jobException != null) {
+        if (jobException == null && Boolean.TRUE.equals(context.get(HttpJob.ASYNC_DISPATCHED))) {
+            // Recorded by HttpJobDispatcher when the response completes
+            return;
+        }
+        if (jobException == null && context.get(HttpJob.DEFERRED) != null) {
+            saveLog(context, ExecutionLog.ExecutionStatus.VETOED, String.valueOf(context.get(HttpJob.DEFERRED)));
+        } else if (jobException != null) {
             saveLog(context, ExecutionLog.ExecutionStatus.FAILURE, jobException.getMessage());
         } else {
             String result = String.valueOf(context.getResult());
@@ -62,29 +74,43 @@ public class ExecutionHistoryListener implements JobListener {
     }
 
     private void saveLog(JobExecutionContext context, ExecutionLog.ExecutionStatus status, String message) {
-        try {
-            Date fireTimeDate = context.getFireTime();
-            LocalDateTime fireTime = LocalDateTime.ofInstant(fireTimeDate.toInstant(), ZoneId.systemDefault());
+        recordExecution(FireAttempt.of(context), context.getJobRunTime(), status, message);
+    }
 
-            long duration = context.getJobRunTime();
+    /**
+     * Records an execution whose outcome is known outside of the listener callbacks, e.g.
+     * an async HTTP request that completed after the worker thread returned.
+     */
+    public void recordExecution(FireAttempt fire, long duration, ExecutionLog.ExecutionStatus status,
+                                String message) {
+        long start = System.nanoTime();
+        try {
+            JobKey jobKey = fire.jobKey();
+            LocalDateTime fireTime = LocalDateTime.ofInstant(fire.fireTime().toInstant(), ZoneId.systemDefault());
             LocalDateTime endTime = fireTime.plusNanos(duration * 1_000_000);
 
+            jobStatsService.record(jobKey, fireTime, status, duration);
+
             ExecutionLog logRel = ExecutionLog.builder()
-                    .jobName(context.getJobDetail().getKey().getName())
-                    .jobGroup(context.getJobDetail().getKey().getGroup())
-                    .triggerName(context.getTrigger().getKey().getName())
-                    .triggerGroup(context.getTrigger().getKey().getGroup())
+                    .jobName(jobKey.getName())
+                    .jobGroup(jobKey.getGroup())
+                    .triggerName(fire.triggerKey().getName())
+                    .triggerGroup(fire.triggerKey().getGroup())
                     .fireTime(fireTime)
                     .endTime(endTime)
                     .duration(duration)
                     .status(status)
                     .message(message != null ? (message.length() > 4000 ? message.substring(0, 4000) + "..." : message)
                             : null)
+                    .attempt(fire.attempt())
+                    .originFireId(fire.originFireId())
                     .build();
 
-            executionLogRepository.save(logRel);
+            executionLogWriter.enqueue(logRel);
         } catch (Exception e) {
             log.error("Failed to save execution log", e);
+        } finally {
+            quartzMetrics.historyRecorded(System.nanoTime() - start);
         }
     }
 }
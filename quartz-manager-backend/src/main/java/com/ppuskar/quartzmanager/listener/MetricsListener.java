@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.listener;
+
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.ppuskar.quartzmanager.scheduler.AdaptivePoolSizer;
+import com.ppuskar.quartzmanager.scheduler.ClusterMonitor;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.TriggerListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds trigger and job events into {@link QuartzMetrics}: fire lag, misfires, running
+ * jobs and job durations. Fire lag and misfires also drive the {@link AdaptivePoolSizer},
+ * and fires count towards this node's share in the {@link ClusterMonitor}.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsListener implements JobListener, TriggerListener {
+
+    private final QuartzMetrics quartzMetrics;
+    private final AdaptivePoolSizer adaptivePoolSizer;
+    private final ClusterMonitor clusterMonitor;
+
+    @Override
+    public String getName() {
+        return "MetricsListener";
+    }
+
+    // TriggerListener
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        clusterMonitor.recordFire();
+        if (context.getScheduledFireTime() != null) {
+            long lagMs = context.getFireTime().getTime() - context.getScheduledFireTime().getTime();
+            quartzMetrics.triggerFired(trigger.getJobKey().getGroup(), lagMs);
+            adaptivePoolSizer.recordFire(lagMs);
+        }
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        quartzMetrics.triggerMisfired(trigger.getJobKey().getGroup());
+        adaptivePoolSizer.recordMisfire();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+        // No-op
+    }
+
+    // JobListener
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        quartzMetrics.jobStarted();
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        // No-op
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        quartzMetrics.jobFinished(context.getJobDetail().getKey().getGroup(), jobException == null,
+                context.getJobRunTime());
+    }
+}
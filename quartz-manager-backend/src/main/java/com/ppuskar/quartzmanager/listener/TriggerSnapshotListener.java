@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.listener;
+
+import com.ppuskar.quartzmanager.service.TriggerSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.TriggerListener;
+import org.quartz.listeners.SchedulerListenerSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds scheduler and trigger events into {@link TriggerSnapshotCache}. Fires and
+ * completions are applied in memory; structural changes mark the affected job for a
+ * reload from the job store.
+ */
+@Component
+@RequiredArgsConstructor
+public class TriggerSnapshotListener extends SchedulerListenerSupport implements TriggerListener {
+
+    private final TriggerSnapshotCache triggerSnapshotCache;
+
+    @Override
+    public String getName() {
+        return "TriggerSnapshotListener";
+    }
+
+    // SchedulerListener
+
+    @Override
+    public void jobScheduled(Trigger trigger) {
+        triggerSnapshotCache.markJobDirty(trigger.getJobKey());
+    }
+
+    @Override
+    public void jobUnscheduled(TriggerKey triggerKey) {
+        triggerSnapshotCache.removeTrigger(triggerKey);
+    }
+
+    @Override
+    public void triggerFinalized(Trigger trigger) {
+        triggerSnapshotCache.markJobDirty(trigger.getJobKey());
+    }
+
+    @Override
+    public void triggerPaused(TriggerKey triggerKey) {
+        triggerSnapshotCache.markTriggerDirty(triggerKey);
+    }
+
+    @Override
+    public void triggersPaused(String triggerGroup) {
+        triggerSnapshotCache.requestFullReload();
+    }
+
+    @Override
+    public void triggerResumed(TriggerKey triggerKey) {
+        triggerSnapshotCache.markTriggerDirty(triggerKey);
+    }
+
+    @Override
+    public void triggersResumed(String triggerGroup) {
+        triggerSnapshotCache.requestFullReload();
+    }
+
+    @Override
+    public void jobAdded(JobDetail jobDetail) {
+        triggerSnapshotCache.markJobDirty(jobDetail.getKey());
+    }
+
+    @Override
+    public void jobDeleted(JobKey jobKey) {
+        triggerSnapshotCache.removeJob(jobKey);
+    }
+
+    @Override
+    public void jobPaused(JobKey jobKey) {
+        triggerSnapshotCache.markJobDirty(jobKey);
+    }
+
+    @Override
+    public void jobsPaused(String jobGroup) {
+        triggerSnapshotCache.requestFullReload();
+    }
+
+    @Override
+    public void jobResumed(JobKey jobKey) {
+        triggerSnapshotCache.markJobDirty(jobKey);
+    }
+
+    @Override
+    public void jobsResumed(String jobGroup) {
+        triggerSnapshotCache.requestFullReload();
+    }
+
+    @Override
+    public void schedulingDataCleared() {
+        triggerSnapshotCache.requestFullReload();
+    }
+
+    // TriggerListener
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        triggerSnapshotCache.applyFire(trigger);
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        triggerSnapshotCache.applyFire(trigger);
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+        if (trigger.getNextFireTime() == null
+                || triggerInstructionCode != Trigger.CompletedExecutionInstruction.NOOP) {
+            // Final or state-changing completions are resolved against the job store
+            triggerSnapshotCache.markJobDirty(trigger.getJobKey());
+        } else {
+            triggerSnapshotCache.applyFire(trigger);
+        }
+    }
+}
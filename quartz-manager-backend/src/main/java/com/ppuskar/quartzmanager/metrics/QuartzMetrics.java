@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Micrometer meters for the scheduler and job hot paths. Meters are tagged by job group
+ * and target host only, never by job name, and both tags are capped: once the configured
+ * number of distinct values has been seen, further values are reported as {@code other}.
+ * Meters are cached per tag value so recording does not go through the registry lookup.
+ */
+@Component
+@Slf4j
+public class QuartzMetrics {
+
+    static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+    private final TagLimiter groups;
+    private final TagLimiter hosts;
+    private final TagLimiter targets;
+    private final boolean histograms;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final Map<String, Timer> fireLag = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misfires = new ConcurrentHashMap<>();
+    private final Map<String, Timer> jobDuration = new ConcurrentHashMap<>();
+    private final Map<String, Timer> httpRequests = new ConcurrentHashMap<>();
+    private final Map<String, TargetGauges> targetGauges = new ConcurrentHashMap<>();
+    private final Map<String, Timer> targetWaits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> targetSaturations = new ConcurrentHashMap<>();
+    private final Map<String, Counter> circuitsOpened = new ConcurrentHashMap<>();
+    private final Map<String, Counter> circuitRejections = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retries = new ConcurrentHashMap<>();
+    private final Timer historyRecord;
+    private final Timer historyWrite;
+    private final Counter historyCleanupDeleted;
+    private final Counter historyCleanupPartitions;
+
+    public QuartzMetrics(MeterRegistry registry, Scheduler scheduler,
+                         @Value("${quartz.metrics.max-group-tags:100}") int maxGroupTags,
+                         @Value("${quartz.metrics.max-host-tags:200}") int maxHostTags,
+                         @Value("${quartz.metrics.histograms:true}") boolean histograms) {
+        this.registry = registry;
+        this.groups = new TagLimiter("group", maxGroupTags);
+        this.hosts = new TagLimiter("host", maxHostTags);
+        this.targets = new TagLimiter("target", maxHostTags);
+        this.histograms = histograms;
+
+        Gauge.builder("quartz.threadpool.busy", running, AtomicInteger::get)
+                .description("Jobs currently executing on the Quartz thread pool")
+                .register(registry);
+        Gauge.builder("quartz.threadpool.size", scheduler, QuartzMetrics::poolSize)
+                .description("Configured Quartz thread pool size")
+                .register(registry);
+        Gauge.builder("quartz.threadpool.available", scheduler, s -> poolSize(s) - running.get())
+                .description("Free Quartz worker slots")
+                .register(registry);
+
+        this.historyRecord = timer("quartz.history.record")
+                .description("Time spent by the history listener recording one execution")
+                .register(registry);
+        this.historyWrite = timer("quartz.history.write")
+                .description("Time taken to persist one batch of execution logs")
+                .register(registry);
+        this.historyCleanupDeleted = Counter.builder("quartz.history.cleanup.deleted")
+                .description("Execution log rows purged by the retention cleanup")
+                .register(registry);
+        this.historyCleanupPartitions = Counter.builder("quartz.history.cleanup.partitions.dropped")
+                .description("Expired day partitions dropped by the retention cleanup")
+                .register(registry);
+    }
+
+    public void jobStarted() {
+        running.incrementAndGet();
+    }
+
+    public void jobFinished(String group, boolean success, long durationMs) {
+        running.decrementAndGet();
+        String tag = groups.limit(group);
+        String outcome = success ? "SUCCESS" : "FAILURE";
+        jobDuration.computeIfAbsent(tag + '|' + outcome, k -> timer("quartz.job.duration")
+                        .description("Job execution time")
+                        .tag("group", tag)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void triggerFired(String group, long lagMs) {
+        String tag = groups.limit(group);
+        fireLag.computeIfAbsent(tag, k -> timer("quartz.trigger.fire.lag")
+                        .description("Delay between a trigger's scheduled and actual fire time")
+                        .tag("group", tag)
+                        .register(registry))
+                .record(Math.max(lagMs, 0), TimeUnit.MILLISECONDS);
+    }
+
+    public void triggerMisfired(String group) {
+        String tag = groups.limit(group);
+        misfires.computeIfAbsent(tag, k -> Counter.builder("quartz.trigger.misfires")
+                        .description("Triggers that missed their fire time")
+                        .tag("group", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * @param status the HTTP status code, or {@code null} if no response was received
+     */
+    public void httpRequest(String host, Integer status, long durationNanos) {
+        String hostTag = hosts.limit(host);
+        String statusTag = status != null ? String.valueOf(status) : "ERROR";
+        httpRequests.computeIfAbsent(hostTag + '|' + statusTag, k -> timer("quartz.http.requests")
+                        .description("HttpJob request latency")
+                        .tag("host", hostTag)
+                        .tag("status", statusTag)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Exposes the in-flight and waiting counts of a target's limiter. Registering the same
+     * target again (after its limits changed) rebinds the existing gauges.
+     */
+    public void registerTargetLimiter(String target, IntSupplier active, IntSupplier waiting) {
+        String tag = targets.limit(target);
+        if (tag.equals(OTHER)) {
+            return;
+        }
+        targetGauges.computeIfAbsent(tag, k -> {
+            TargetGauges gauges = new TargetGauges();
+            Gauge.builder("quartz.http.limit.active", gauges, g -> g.active.getAsInt())
+                    .description("Requests in flight to a limited target")
+                    .tag("target", tag)
+                    .register(registry);
+            Gauge.builder("quartz.http.limit.waiting", gauges, g -> g.waiting.getAsInt())
+                    .description("Fires waiting for a limited target")
+                    .tag("target", tag)
+                    .register(registry);
+            return gauges;
+        }).bind(active, waiting);
+    }
+
+    public void targetWait(String target, long durationNanos) {
+        String tag = targets.limit(target);
+        targetWaits.computeIfAbsent(tag, k -> timer("quartz.http.limit.wait")
+                        .description("Time spent waiting for a target's bulkhead or rate limit")
+                        .tag("target", tag)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void targetSaturated(String target) {
+        String tag = targets.limit(target);
+        targetSaturations.computeIfAbsent(tag, k -> Counter.builder("quartz.http.limit.saturated")
+                        .description("Fires deferred because a target stayed saturated")
+                        .tag("target", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    public void circuitOpened(String target) {
+        String tag = targets.limit(target);
+        circuitsOpened.computeIfAbsent(tag, k -> Counter.builder("quartz.http.circuit.opened")
+                        .description("Times a target's circuit breaker opened")
+                        .tag("target", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    public void circuitRejected(String target) {
+        String tag = targets.limit(target);
+        circuitRejections.computeIfAbsent(tag, k -> Counter.builder("quartz.http.circuit.rejected")
+                        .description("Fires failed without a request because the target's circuit was open")
+                        .tag("target", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    public void retryScheduled(String group) {
+        String tag = groups.limit(group);
+        retries.computeIfAbsent(tag, k -> Counter.builder("quartz.http.retries")
+                        .description("Retry attempts scheduled for failed fires")
+                        .tag("group", tag)
+                        .register(registry))
+                .increment();
+    }
+
+    public void historyRecorded(long durationNanos) {
+        historyRecord.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void historyWritten(long durationNanos) {
+        historyWrite.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void historyCleanupDeleted(int rows) {
+        historyCleanupDeleted.increment(rows);
+    }
+
+    public void historyCleanupPartitionsDropped(int partitions) {
+        historyCleanupPartitions.increment(partitions);
+    }
+
+    /**
+     * One cleanup run; {@code complete=false} means the time slice ran out or the run
+     * failed, so expired rows remain for the next run.
+     */
+    public void historyCleanupRun(long durationNanos, boolean complete) {
+        Timer.builder("quartz.history.cleanup")
+                .description("Execution history cleanup run time")
+                .tag("outcome", complete ? "complete" : "partial")
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer.Builder timer(String name) {
+        Timer.Builder builder = Timer.builder(name);
+        if (histograms) {
+            builder.publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofMinutes(10));
+        }
+        return builder;
+    }
+
+    private static double poolSize(Scheduler scheduler) {
+        try {
+            return scheduler.getMetaData().getThreadPoolSize();
+        } catch (SchedulerException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static final class TargetGauges {
+
+        private volatile IntSupplier active = () -> 0;
+        private volatile IntSupplier waiting = () -> 0;
+
+        void bind(IntSupplier active, IntSupplier waiting) {
+            this.active = active;
+            this.waiting = waiting;
+        }
+    }
+
+    /**
+     * Admits the first {@code max} distinct values of a tag and folds the rest into
+     * {@link #OTHER}.
+     */
+    private static final class TagLimiter {
+
+        private final String name;
+        private final int max;
+        private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+
+        TagLimiter(String name, int max) {
+            this.name = name;
+            this.max = max;
+        }
+
+        String limit(String value) {
+            if (value == null || value.isEmpty()) {
+                return "none";
+            }
+            if (admitted.contains(value)) {
+                return value;
+            }
+            synchronized (this) {
+                if (admitted.size() < max) {
+                    if (admitted.add(value) && admitted.size() == max) {
+                        log.warn("Metric tag '{}' reached {} distinct values; further values are reported as '{}'",
+                                name, max, OTHER);
+                    }
+                    return value;
+                }
+            }
+            return OTHER;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.repository;
+
+import com.ppuskar.quartzmanager.entity.ClusterNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to {@code cluster_nodes}. Each instance only ever writes its own row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClusterNodeRepository {
+
+    private static final String UPDATE_SQL = "UPDATE cluster_nodes SET scheduler_name = ?, host = ?, "
+            + "started_at = ?, reported_at = ?, fires_total = ?, fires_per_second = ?, lock_acquisitions = ?, "
+            + "lock_wait_avg_ms = ?, lock_wait_max_ms = ?, pool_size = ?, busy = ? WHERE instance_id = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO cluster_nodes (scheduler_name, host, started_at, "
+            + "reported_at, fires_total, fires_per_second, lock_acquisitions, lock_wait_avg_ms, lock_wait_max_ms, "
+            + "pool_size, busy, instance_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(ClusterNode node) {
+        Object[] args = {node.getSchedulerName(), node.getHost(), Timestamp.valueOf(node.getStartedAt()),
+                Timestamp.valueOf(node.getReportedAt()), node.getFiresTotal(), node.getFiresPerSecond(),
+                node.getLockAcquisitions(), node.getLockWaitAvgMs(), node.getLockWaitMaxMs(), node.getPoolSize(),
+                node.getBusy(), node.getInstanceId()};
+        if (jdbcTemplate.update(UPDATE_SQL, args) == 0) {
+            jdbcTemplate.update(INSERT_SQL, args);
+        }
+    }
+
+    public List<ClusterNode> findBySchedulerName(String schedulerName) {
+        return jdbcTemplate.query("SELECT * FROM cluster_nodes WHERE scheduler_name = ? ORDER BY instance_id",
+                (rs, rowNum) -> ClusterNode.builder()
+                        .instanceId(rs.getString("instance_id"))
+                        .schedulerName(rs.getString("scheduler_name"))
+                        .host(rs.getString("host"))
+                        .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+                        .reportedAt(rs.getTimestamp("reported_at").toLocalDateTime())
+                        .firesTotal(rs.getLong("fires_total"))
+                        .firesPerSecond(rs.getDouble("fires_per_second"))
+                        .lockAcquisitions(rs.getLong("lock_acquisitions"))
+                        .lockWaitAvgMs(rs.getDouble("lock_wait_avg_ms"))
+                        .lockWaitMaxMs(rs.getDouble("lock_wait_max_ms"))
+                        .poolSize(rs.getInt("pool_size"))
+                        .busy(rs.getInt("busy"))
+                        .build(), schedulerName);
+    }
+
+    /**
+     * Removes reports of instances that stopped reporting, e.g. earlier runs of a node
+     * whose instance id changes on every start.
+     */
+    public int deleteReportedBefore(String schedulerName, LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM cluster_nodes WHERE scheduler_name = ? AND reported_at < ?",
+                schedulerName, Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maintenance statements for {@code execution_logs} that must not run inside one large
+ * JPA transaction: bounded deletes and MySQL partition management. Every call here runs
+ * in its own short auto-commit transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExecutionLogMaintenanceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Deletes at most {@code limit} of the oldest rows fired before {@code cutoff}. Rows are
+     * located through the fire_time index and deleted by primary key, so each call locks
+     * only the rows it removes.
+     */
+    public int deleteBatchOlderThan(LocalDateTime cutoff, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM execution_logs WHERE fire_time < ? ORDER BY fire_time LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM execution_logs WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    public record Partition(String name, String description) {
+    }
+
+    /**
+     * Partitions of {@code execution_logs} in ordinal order; empty when the table is not
+     * partitioned.
+     */
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'execution_logs'"
+                        + " AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), rs.getString(2)));
+    }
+
+    /**
+     * Converts the table to daily RANGE COLUMNS partitioning on fire_time. MySQL requires
+     * the partitioning column in every unique key, so the primary key becomes (id,
+     * fire_time). This rebuilds the table and should be run during a quiet period.
+     */
+    public void partitionByDay(LocalDate firstDay, LocalDate lastDay) {
+        StringBuilder ddl = new StringBuilder("ALTER TABLE execution_logs")
+                .append(" MODIFY fire_time DATETIME(6) NOT NULL,")
+                .append(" DROP PRIMARY KEY, ADD PRIMARY KEY (id, fire_time)")
+                .append(" PARTITION BY RANGE COLUMNS(fire_time) (");
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            ddl.append(partitionDefinition(day)).append(", ");
+        }
+        ddl.append("PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(ddl.toString());
+    }
+
+    /**
+     * Splits the catch-all {@code pmax} partition so the given days get their own
+     * partitions. pmax is normally empty, which makes this a metadata-only change.
+     */
+    public void addDayPartitions(List<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        StringBuilder ddl = new StringBuilder("ALTER TABLE execution_logs REORGANIZE PARTITION pmax INTO (");
+        for (LocalDate day : days) {
+            ddl.append(partitionDefinition(day)).append(", ");
+        }
+        ddl.append("PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(ddl.toString());
+    }
+
+    public void dropPartitions(List<String> names) {
+        if (!names.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE execution_logs DROP PARTITION " + String.join(", ", names));
+        }
+    }
+
+    public static String partitionName(LocalDate day) {
+        return "p" + day.toString().replace("-", "");
+    }
+
+    private static String partitionDefinition(LocalDate day) {
+        return "PARTITION " + partitionName(day) + " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00')";
+    }
+}
@@ -15,24 +15,20 @@
 package com.ppuskar.quartzmanager.repository;
 
 import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ExecutionLogRepository extends JpaRepository<ExecutionLog, Long> {
+public interface ExecutionLogRepository extends JpaRepository<ExecutionLog, Long>,
+        JpaSpecificationExecutor<ExecutionLog> {
 
-    List<ExecutionLog> findByJobGroupAndJobNameOrderByFireTimeDesc(String jobGroup, String jobName);
+    List<ExecutionLog> findByJobGroupAndJobNameOrderByFireTimeDescIdDesc(String jobGroup, String jobName, Limit limit);
 
     Page<ExecutionLog> findByJobGroupAndJobNameOrderByFireTimeDesc(String jobGroup, String jobName, Pageable pageable);
-
-    @Modifying
-    @Query("DELETE FROM ExecutionLog e WHERE e.fireTime < :cutoff")
-    void deleteOlderThan(LocalDateTime cutoff);
 }
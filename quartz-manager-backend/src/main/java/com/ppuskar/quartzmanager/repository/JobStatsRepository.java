@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.repository;
+
+import com.ppuskar.quartzmanager.entity.JobStatsRollup;
+import com.ppuskar.quartzmanager.stats.JobStatsAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to {@code job_stats_rollups}. Rows are merged into accumulators while the
+ * result set streams, so a window query holds one accumulator per job rather than every
+ * row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobStatsRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO job_stats_rollups "
+            + "(job_group, job_name, granularity, bucket_start, success_count, failure_count, veto_count, "
+            + "total_duration, max_duration, histogram) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS = "SELECT job_group, job_name, bucket_start, success_count, "
+            + "failure_count, veto_count, total_duration, max_duration, histogram FROM job_stats_rollups";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Bucket(JobKey jobKey, LocalDateTime bucketStart, JobStatsAccumulator stats) {
+    }
+
+    public void insert(JobStatsRollup.Granularity granularity, List<Bucket> buckets) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, buckets, 500, (ps, b) -> {
+            ps.setString(1, b.jobKey().getGroup());
+            ps.setString(2, b.jobKey().getName());
+            ps.setString(3, granularity.name());
+            ps.setTimestamp(4, Timestamp.valueOf(b.bucketStart()));
+            ps.setLong(5, b.stats().getSuccessCount());
+            ps.setLong(6, b.stats().getFailureCount());
+            ps.setLong(7, b.stats().getVetoCount());
+            ps.setLong(8, b.stats().getTotalDuration());
+            ps.setLong(9, b.stats().getMaxDuration());
+            ps.setBytes(10, b.stats().histogramBytes());
+        });
+    }
+
+    public JobStatsAccumulator aggregateJob(JobKey jobKey, LocalDateTime from, LocalDateTime to) {
+        JobStatsAccumulator total = new JobStatsAccumulator();
+        jdbcTemplate.query(SELECT_COLUMNS + " WHERE job_group = ? AND job_name = ? AND bucket_start >= ? AND bucket_start < ?",
+                rs -> {
+                    total.merge(JobStatsAccumulator.of(rs.getLong("success_count"), rs.getLong("failure_count"),
+                            rs.getLong("veto_count"), rs.getLong("total_duration"), rs.getLong("max_duration"),
+                            rs.getBytes("histogram")));
+                },
+                jobKey.getGroup(), jobKey.getName(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return total;
+    }
+
+    // Both granularities are listed so the (granularity, bucket_start) index is usable
+    public Map<JobKey, JobStatsAccumulator> aggregateAll(LocalDateTime from, LocalDateTime to) {
+        Map<JobKey, JobStatsAccumulator> result = new HashMap<>();
+        jdbcTemplate.query(SELECT_COLUMNS + " WHERE granularity IN ('MINUTE', 'HOUR') AND bucket_start >= ? AND bucket_start < ?",
+                rs -> {
+                    JobKey key = new JobKey(rs.getString("job_name"), rs.getString("job_group"));
+                    result.computeIfAbsent(key, k -> new JobStatsAccumulator())
+                            .merge(JobStatsAccumulator.of(rs.getLong("success_count"), rs.getLong("failure_count"),
+                                    rs.getLong("veto_count"), rs.getLong("total_duration"),
+                                    rs.getLong("max_duration"), rs.getBytes("histogram")));
+                },
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return result;
+    }
+
+    /**
+     * Folds the minute rows of one hour into hour rows, streaming them in job order so
+     * only one job's accumulator is held at a time. The rows are locked until the calling
+     * transaction ends, so a concurrent compaction of the same hour waits and then finds
+     * them deleted.
+     */
+    public List<Bucket> compactHour(LocalDateTime hourStart) {
+        LocalDateTime hourEnd = hourStart.plusHours(1);
+        List<Bucket> hourly = new ArrayList<>();
+        Bucket[] current = {null};
+        jdbcTemplate.query(SELECT_COLUMNS + " WHERE granularity = 'MINUTE' AND bucket_start >= ? AND bucket_start < ?"
+                        + " ORDER BY job_group, job_name FOR UPDATE",
+                rs -> {
+                    JobKey key = new JobKey(rs.getString("job_name"), rs.getString("job_group"));
+                    if (current[0] == null || !current[0].jobKey().equals(key)) {
+                        current[0] = new Bucket(key, hourStart, new JobStatsAccumulator());
+                        hourly.add(current[0]);
+                    }
+                    current[0].stats().merge(JobStatsAccumulator.of(rs.getLong("success_count"),
+                            rs.getLong("failure_count"), rs.getLong("veto_count"), rs.getLong("total_duration"),
+                            rs.getLong("max_duration"), rs.getBytes("histogram")));
+                },
+                Timestamp.valueOf(hourStart), Timestamp.valueOf(hourEnd));
+        return hourly;
+    }
+
+    public int deleteMinuteRows(LocalDateTime hourStart) {
+        return jdbcTemplate.update("DELETE FROM job_stats_rollups WHERE granularity = 'MINUTE'"
+                        + " AND bucket_start >= ? AND bucket_start < ?",
+                Timestamp.valueOf(hourStart), Timestamp.valueOf(hourStart.plusHours(1)));
+    }
+
+    public LocalDateTime findOldestMinuteBucket() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(bucket_start) FROM job_stats_rollups WHERE granularity = 'MINUTE'", Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime().truncatedTo(ChronoUnit.HOURS) : null;
+    }
+
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM job_stats_rollups WHERE bucket_start < ?", Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.repository;
+
+import com.ppuskar.quartzmanager.dto.TriggerQuery;
+import com.ppuskar.quartzmanager.scheduler.JobDataCodec;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based reads straight from the Quartz JDBC job store tables. The scheduler API only
+ * offers per-job lookups, which costs several round trips and a BLOB deserialization per
+ * job; these queries return a whole dashboard page in two statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuartzJobStoreRepository {
+
+    private static final String STATE_EXPR = "CASE t.TRIGGER_STATE"
+            + " WHEN 'PAUSED' THEN 'PAUSED' WHEN 'PAUSED_BLOCKED' THEN 'PAUSED'"
+            + " WHEN 'COMPLETE' THEN 'COMPLETE' WHEN 'ERROR' THEN 'ERROR'"
+            + " WHEN 'BLOCKED' THEN 'BLOCKED' WHEN 'DELETED' THEN 'NONE'"
+            + " ELSE 'NORMAL' END";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "jobName", "t.JOB_NAME",
+            "jobGroup", "t.JOB_GROUP",
+            "triggerName", "t.TRIGGER_NAME",
+            "state", "trigger_state",
+            "nextExecutionTime", "t.NEXT_FIRE_TIME",
+            "lastExecutionTime", "t.PREV_FIRE_TIME");
+
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+    private String tablePrefix;
+
+    public record TriggerRow(String triggerName, String triggerGroup, String jobName, String jobGroup,
+                             String description, String cronExpression, Long nextFireTime, Long prevFireTime,
+                             String state, Map<String, Object> jobData) {
+    }
+
+    public List<TriggerRow> findTriggers(String schedulerName, TriggerQuery query) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT t.TRIGGER_NAME, t.TRIGGER_GROUP, t.JOB_NAME, t.JOB_GROUP, t.NEXT_FIRE_TIME,")
+                .append(" t.PREV_FIRE_TIME, ").append(STATE_EXPR).append(" AS trigger_state,")
+                .append(" c.CRON_EXPRESSION, j.DESCRIPTION, j.JOB_DATA")
+                .append(" FROM ").append(tablePrefix).append("TRIGGERS t")
+                .append(" JOIN ").append(tablePrefix).append("JOB_DETAILS j")
+                .append(" ON j.SCHED_NAME = t.SCHED_NAME AND j.JOB_NAME = t.JOB_NAME AND j.JOB_GROUP = t.JOB_GROUP")
+                .append(" LEFT JOIN ").append(tablePrefix).append("CRON_TRIGGERS c")
+                .append(" ON c.SCHED_NAME = t.SCHED_NAME AND c.TRIGGER_NAME = t.TRIGGER_NAME")
+                .append(" AND c.TRIGGER_GROUP = t.TRIGGER_GROUP");
+        appendWhere(sql, args, schedulerName, query);
+
+        String direction = query.isDescending() ? " DESC" : " ASC";
+        String sortColumn = SORT_COLUMNS.getOrDefault(query.getSort() != null ? query.getSort() : "", "t.JOB_GROUP");
+        sql.append(" ORDER BY ").append(sortColumn).append(direction)
+                .append(", t.JOB_GROUP, t.JOB_NAME, t.TRIGGER_GROUP, t.TRIGGER_NAME");
+        if (query.getPage() != null) {
+            sql.append(" LIMIT ? OFFSET ?");
+            args.add(query.getSize());
+            args.add(query.getPage().longValue() * query.getSize());
+        }
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TriggerRow(
+                rs.getString("TRIGGER_NAME"),
+                rs.getString("TRIGGER_GROUP"),
+                rs.getString("JOB_NAME"),
+                rs.getString("JOB_GROUP"),
+                rs.getString("DESCRIPTION"),
+                rs.getString("CRON_EXPRESSION"),
+                positiveOrNull(rs.getLong("NEXT_FIRE_TIME")),
+                positiveOrNull(rs.getLong("PREV_FIRE_TIME")),
+                rs.getString("trigger_state"),
+                JobDataCodec.decode(rs.getBytes("JOB_DATA"))), args.toArray());
+    }
+
+    public long countTriggers(String schedulerName, TriggerQuery query) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM ")
+                .append(tablePrefix).append("TRIGGERS t");
+        appendWhere(sql, args, schedulerName, query);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Which of the given jobs exist, checked with one IN query per group and chunk
+     * instead of one {@code checkExists} call per job.
+     */
+    public Set<JobKey> findExistingJobKeys(String schedulerName, Collection<JobKey> jobKeys) {
+        Set<JobKey> existing = new HashSet<>();
+        Map<String, List<String>> namesByGroup = new HashMap<>();
+        jobKeys.forEach(k -> namesByGroup.computeIfAbsent(k.getGroup(), g -> new ArrayList<>()).add(k.getName()));
+        namesByGroup.forEach((group, names) -> {
+            for (int i = 0; i < names.size(); i += IN_CHUNK_SIZE) {
+                List<String> chunk = names.subList(i, Math.min(i + IN_CHUNK_SIZE, names.size()));
+                List<Object> args = new ArrayList<>(chunk.size() + 2);
+                args.add(schedulerName);
+                args.add(group);
+                args.addAll(chunk);
+                jdbcTemplate.query("SELECT JOB_NAME FROM " + tablePrefix + "JOB_DETAILS"
+                                + " WHERE SCHED_NAME = ? AND JOB_GROUP = ? AND JOB_NAME IN ("
+                                + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                        rs -> {
+                            existing.add(new JobKey(rs.getString(1), group));
+                        }, args.toArray());
+            }
+        });
+        return existing;
+    }
+
+    /**
+     * A stored job with the trigger a definition request replaces; the trigger fields are
+     * null if the job has no such trigger or it is not a cron trigger.
+     */
+    public record JobDefinitionRow(String description, String jobClass, Map<String, Object> jobData,
+                                   String cronExpression, String timeZone, Long startTime, Long endTime,
+                                   Integer misfireInstruction, Integer priority) {
+    }
+
+    /**
+     * Stored definitions of the jobs of the given triggers, read with one query per group
+     * and chunk. Jobs that do not exist are missing from the result.
+     */
+    public Map<JobKey, JobDefinitionRow> findJobDefinitions(String schedulerName, Map<JobKey, TriggerKey> triggerKeys) {
+        Map<JobKey, JobDefinitionRow> definitions = new HashMap<>();
+        Map<String, List<String>> namesByGroup = new HashMap<>();
+        triggerKeys.keySet().forEach(k -> namesByGroup.computeIfAbsent(k.getGroup(), g -> new ArrayList<>())
+                .add(k.getName()));
+        namesByGroup.forEach((group, names) -> {
+            for (int i = 0; i < names.size(); i += IN_CHUNK_SIZE) {
+                List<String> chunk = names.subList(i, Math.min(i + IN_CHUNK_SIZE, names.size()));
+                List<Object> args = new ArrayList<>(chunk.size() + 2);
+                args.add(schedulerName);
+                args.add(group);
+                args.addAll(chunk);
+                // Follow-up triggers of a job come back as extra rows and are skipped
+                jdbcTemplate.query("SELECT j.JOB_NAME, j.DESCRIPTION, j.JOB_CLASS_NAME, j.JOB_DATA,"
+                                + " t.TRIGGER_NAME, t.TRIGGER_GROUP, t.START_TIME, t.END_TIME, t.MISFIRE_INSTR,"
+                                + " t.PRIORITY, c.CRON_EXPRESSION, c.TIME_ZONE_ID"
+                                + " FROM " + tablePrefix + "JOB_DETAILS j"
+                                + " LEFT JOIN " + tablePrefix + "TRIGGERS t ON t.SCHED_NAME = j.SCHED_NAME"
+                                + " AND t.JOB_NAME = j.JOB_NAME AND t.JOB_GROUP = j.JOB_GROUP"
+                                + " LEFT JOIN " + tablePrefix + "CRON_TRIGGERS c ON c.SCHED_NAME = t.SCHED_NAME"
+                                + " AND c.TRIGGER_NAME = t.TRIGGER_NAME AND c.TRIGGER_GROUP = t.TRIGGER_GROUP"
+                                + " WHERE j.SCHED_NAME = ? AND j.JOB_GROUP = ? AND j.JOB_NAME IN ("
+                                + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                        rs -> {
+                            JobKey jobKey = new JobKey(rs.getString("JOB_NAME"), group);
+                            JobDefinitionRow job = definitions.get(jobKey);
+                            if (job == null) {
+                                job = new JobDefinitionRow(rs.getString("DESCRIPTION"), rs.getString("JOB_CLASS_NAME"),
+                                        JobDataCodec.decode(rs.getBytes("JOB_DATA")), null, null, null, null, null, null);
+                                definitions.put(jobKey, job);
+                            }
+                            TriggerKey triggerKey = triggerKeys.get(jobKey);
+                            if (triggerKey.getName().equals(rs.getString("TRIGGER_NAME"))
+                                    && triggerKey.getGroup().equals(rs.getString("TRIGGER_GROUP"))
+                                    && rs.getString("CRON_EXPRESSION") != null) {
+                                definitions.put(jobKey, new JobDefinitionRow(job.description(), job.jobClass(),
+                                        job.jobData(), rs.getString("CRON_EXPRESSION"), rs.getString("TIME_ZONE_ID"),
+                                        rs.getLong("START_TIME"), positiveOrNull(rs.getLong("END_TIME")),
+                                        rs.getInt("MISFIRE_INSTR"), rs.getInt("PRIORITY")));
+                            }
+                        }, args.toArray());
+            }
+        });
+        return definitions;
+    }
+
+    public record SchedulerStateRow(String instanceId, long lastCheckin, long checkinInterval) {
+    }
+
+    public record FiredCounts(long acquired, long executing) {
+    }
+
+    /**
+     * Cluster check-ins. Only clustered instances write them.
+     */
+    public List<SchedulerStateRow> findSchedulerStates(String schedulerName) {
+        return jdbcTemplate.query("SELECT INSTANCE_NAME, LAST_CHECKIN_TIME, CHECKIN_INTERVAL FROM "
+                        + tablePrefix + "SCHEDULER_STATE WHERE SCHED_NAME = ?",
+                (rs, rowNum) -> new SchedulerStateRow(rs.getString(1), rs.getLong(2), rs.getLong(3)),
+                schedulerName);
+    }
+
+    /**
+     * Triggers each instance has acquired but not fired yet, and jobs it is executing.
+     */
+    public Map<String, FiredCounts> countFiredTriggersByInstance(String schedulerName) {
+        Map<String, FiredCounts> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT INSTANCE_NAME,"
+                        + " SUM(CASE WHEN STATE = 'ACQUIRED' THEN 1 ELSE 0 END),"
+                        + " SUM(CASE WHEN STATE = 'EXECUTING' THEN 1 ELSE 0 END)"
+                        + " FROM " + tablePrefix + "FIRED_TRIGGERS WHERE SCHED_NAME = ? GROUP BY INSTANCE_NAME",
+                rs -> {
+                    counts.put(rs.getString(1), new FiredCounts(rs.getLong(2), rs.getLong(3)));
+                }, schedulerName);
+        return counts;
+    }
+
+    /**
+     * Whether any job or trigger still holds Java-serialized {@code JOB_DATA}. Stops at the
+     * first such row.
+     */
+    public boolean hasSerializedJobData(String schedulerName) {
+        return hasSerializedJobData(schedulerName, "JOB_DETAILS") || hasSerializedJobData(schedulerName, "TRIGGERS");
+    }
+
+    private boolean hasSerializedJobData(String schedulerName, String table) {
+        Boolean found = jdbcTemplate.query("SELECT JOB_DATA FROM " + tablePrefix + table
+                        + " WHERE SCHED_NAME = ? AND JOB_DATA IS NOT NULL",
+                rs -> {
+                    while (rs.next()) {
+                        if (JobDataCodec.isSerialized(rs.getBytes(1))) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }, schedulerName);
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * Rewrites Java-serialized {@code JOB_DATA} of jobs and triggers as properties text,
+     * in batches. A row is only replaced if it has not changed since it was read.
+     *
+     * @return rows rewritten
+     */
+    public int convertSerializedJobData(String schedulerName, int batchSize) {
+        return convertSerializedJobData(schedulerName, "JOB_DETAILS", "JOB_NAME", "JOB_GROUP", batchSize)
+                + convertSerializedJobData(schedulerName, "TRIGGERS", "TRIGGER_NAME", "TRIGGER_GROUP", batchSize);
+    }
+
+    private int convertSerializedJobData(String schedulerName, String table, String nameColumn,
+                                         String groupColumn, int batchSize) {
+        String update = "UPDATE " + tablePrefix + table + " SET JOB_DATA = ?"
+                + " WHERE SCHED_NAME = ? AND " + nameColumn + " = ? AND " + groupColumn + " = ? AND JOB_DATA = ?";
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int[] converted = {0};
+        jdbcTemplate.query("SELECT " + nameColumn + ", " + groupColumn + ", JOB_DATA FROM " + tablePrefix + table
+                        + " WHERE SCHED_NAME = ? AND JOB_DATA IS NOT NULL",
+                rs -> {
+                    byte[] jobData = rs.getBytes(3);
+                    if (!JobDataCodec.isSerialized(jobData)) {
+                        return;
+                    }
+                    batch.add(new Object[]{JobDataCodec.encode(JobDataCodec.decode(jobData)), schedulerName,
+                            rs.getString(1), rs.getString(2), jobData});
+                    if (batch.size() >= batchSize) {
+                        converted[0] += sum(jdbcTemplate.batchUpdate(update, batch));
+                        batch.clear();
+                    }
+                }, schedulerName);
+        if (!batch.isEmpty()) {
+            converted[0] += sum(jdbcTemplate.batchUpdate(update, batch));
+        }
+        return converted[0];
+    }
+
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            // Batched drivers may report SUCCESS_NO_INFO (-2) instead of a row count
+            total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private void appendWhere(StringBuilder sql, List<Object> args, String schedulerName, TriggerQuery query) {
+        sql.append(" WHERE t.SCHED_NAME = ?");
+        args.add(schedulerName);
+        if (query.getGroup() != null && !query.getGroup().isBlank()) {
+            sql.append(" AND t.JOB_GROUP = ?");
+            args.add(query.getGroup());
+        }
+        if (query.getJobName() != null) {
+            sql.append(" AND t.JOB_NAME = ?");
+            args.add(query.getJobName());
+        }
+        if (query.getState() != null && !query.getState().isBlank()) {
+            List<String> rawStates = rawStates(Trigger.TriggerState.valueOf(query.getState().toUpperCase()));
+            sql.append(" AND t.TRIGGER_STATE IN (")
+                    .append(String.join(", ", Collections.nCopies(rawStates.size(), "?")))
+                    .append(")");
+            args.addAll(rawStates);
+        }
+    }
+
+    /**
+     * Job store state values that {@code Scheduler.getTriggerState} reports as the given
+     * public state. Filtering on the raw column keeps the predicate index friendly.
+     */
+    private static List<String> rawStates(Trigger.TriggerState state) {
+        return switch (state) {
+            case NORMAL -> List.of("WAITING", "ACQUIRED", "EXECUTING");
+            case PAUSED -> List.of("PAUSED", "PAUSED_BLOCKED");
+            case COMPLETE -> List.of("COMPLETE");
+            case ERROR -> List.of("ERROR");
+            case BLOCKED -> List.of("BLOCKED");
+            case NONE -> List.of("DELETED");
+        };
+    }
+
+    private static Long positiveOrNull(long value) {
+        return value > 0 ? value : null;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import com.ppuskar.quartzmanager.dto.PoolDecision;
+import com.ppuskar.quartzmanager.dto.PoolStatus;
+import com.ppuskar.quartzmanager.service.SchedulerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Grows and shrinks the {@link VirtualThreadPool} concurrency limit from what the
+ * scheduler observed in each evaluation window: fire lag and misfires (fed by
+ * {@code MetricsListener}) and the peak share of busy workers.
+ * <p>
+ * The pool only grows when it was nearly full <em>and</em> fires ran late or misfired;
+ * lag with free workers comes from somewhere else and more workers would not help. It
+ * shrinks when it stayed well below the grow thresholds. The gap between the grow and
+ * shrink thresholds, the number of consecutive windows each requires, and a cooldown after
+ * every change keep it from oscillating.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdaptivePoolSizer {
+
+    private static final int MAX_DECISIONS = 50;
+
+    private final Scheduler scheduler;
+
+    @Value("${quartz.threadpool.adaptive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quartz.threadpool.adaptive.min-size:10}")
+    private int minSize;
+
+    @Value("${quartz.threadpool.adaptive.max-size:500}")
+    private int maxSize;
+
+    @Value("${quartz.threadpool.adaptive.grow-lag-ms:1000}")
+    private long growLagMs;
+
+    @Value("${quartz.threadpool.adaptive.shrink-lag-ms:100}")
+    private long shrinkLagMs;
+
+    @Value("${quartz.threadpool.adaptive.grow-utilization:0.9}")
+    private double growUtilization;
+
+    @Value("${quartz.threadpool.adaptive.shrink-utilization:0.5}")
+    private double shrinkUtilization;
+
+    @Value("${quartz.threadpool.adaptive.grow-after:2}")
+    private int growAfter;
+
+    @Value("${quartz.threadpool.adaptive.shrink-after:6}")
+    private int shrinkAfter;
+
+    @Value("${quartz.threadpool.adaptive.grow-factor:1.5}")
+    private double growFactor;
+
+    @Value("${quartz.threadpool.adaptive.shrink-factor:0.75}")
+    private double shrinkFactor;
+
+    @Value("${quartz.threadpool.adaptive.cooldown-ms:60000}")
+    private long cooldownMs;
+
+    private final LongAdder fires = new LongAdder();
+    private final LongAdder lagSum = new LongAdder();
+    private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+    private final LongAdder misfires = new LongAdder();
+
+    private final Deque<PoolDecision> decisions = new ArrayDeque<>();
+    private volatile Sample lastSample;
+    private volatile int growStreak;
+    private volatile int shrinkStreak;
+    private long lastChangeMillis;
+    private boolean unsupportedLogged;
+
+    private record Sample(String time, long fires, long misfires, long avgLagMs, long maxLagMs,
+                          double peakUtilization) {
+    }
+
+    public void recordFire(long lagMs) {
+        long lag = Math.max(lagMs, 0);
+        fires.increment();
+        lagSum.add(lag);
+        maxLag.accumulate(lag);
+    }
+
+    public void recordMisfire() {
+        misfires.increment();
+    }
+
+    @Scheduled(initialDelayString = "${quartz.threadpool.adaptive.interval-ms:10000}",
+            fixedDelayString = "${quartz.threadpool.adaptive.interval-ms:10000}")
+    public void evaluate() {
+        VirtualThreadPool pool = pool();
+        if (pool == null) {
+            return;
+        }
+        long windowFires = fires.sumThenReset();
+        long windowLag = lagSum.sumThenReset();
+        long windowMaxLag = maxLag.getThenReset();
+        long windowMisfires = misfires.sumThenReset();
+        int size = pool.getPoolSize();
+        int peakBusy = pool.getAndResetPeakBusy();
+        double utilization = (double) peakBusy / size;
+        long avgLag = windowFires > 0 ? windowLag / windowFires : 0;
+        lastSample = new Sample(SchedulerService.DNF.format(LocalDateTime.now()), windowFires, windowMisfires, avgLag,
+                windowMaxLag, utilization);
+
+        boolean pressure = utilization >= growUtilization && (windowMisfires > 0 || avgLag >= growLagMs);
+        boolean idle = utilization < shrinkUtilization && windowMisfires == 0 && avgLag <= shrinkLagMs;
+        growStreak = pressure ? growStreak + 1 : 0;
+        shrinkStreak = idle ? shrinkStreak + 1 : 0;
+
+        if (System.currentTimeMillis() - lastChangeMillis < cooldownMs) {
+            return;
+        }
+        int target = size;
+        String reason = null;
+        if (growStreak >= growAfter && size < maxSize) {
+            target = Math.min(maxSize, Math.max(size + 1, (int) Math.ceil(size * growFactor)));
+            reason = String.format("%d of %d workers busy, avg lag %d ms, %d misfires over %d windows",
+                    peakBusy, size, avgLag, windowMisfires, growStreak);
+        } else if (shrinkStreak >= shrinkAfter && size > minSize) {
+            // Never shrink so far that the recent peak would count as pressure
+            int floor = (int) Math.ceil(peakBusy / growUtilization) + 1;
+            target = Math.max(minSize, Math.max(floor, (int) Math.ceil(size * shrinkFactor)));
+            reason = String.format("at most %d of %d workers busy, avg lag %d ms over %d windows",
+                    peakBusy, size, avgLag, shrinkStreak);
+        }
+        if (target == size) {
+            return;
+        }
+        pool.resize(target);
+        log.info("Adaptive pool sizing: {} -> {} workers ({})", size, target, reason);
+        synchronized (decisions) {
+            decisions.addFirst(new PoolDecision(lastSample.time(), size, target, reason));
+            if (decisions.size() > MAX_DECISIONS) {
+                decisions.removeLast();
+            }
+        }
+        growStreak = 0;
+        shrinkStreak = 0;
+        lastChangeMillis = System.currentTimeMillis();
+    }
+
+    public PoolStatus getStatus() {
+        VirtualThreadPool pool = pool();
+        Sample sample = lastSample;
+        List<PoolDecision> recent;
+        synchronized (decisions) {
+            recent = new ArrayList<>(decisions);
+        }
+        PoolStatus.PoolStatusBuilder status = PoolStatus.builder()
+                .adaptive(pool != null)
+                .minSize(minSize)
+                .maxSize(maxSize)
+                .growStreak(growStreak)
+                .shrinkStreak(shrinkStreak)
+                .decisions(recent);
+        if (pool != null) {
+            status.size(pool.getPoolSize()).busy(pool.getBusyCount());
+        }
+        if (sample != null) {
+            status.lastEvaluated(sample.time())
+                    .fires(sample.fires())
+                    .misfires(sample.misfires())
+                    .avgLagMs(sample.avgLagMs())
+                    .maxLagMs(sample.maxLagMs())
+                    .peakUtilization(sample.peakUtilization());
+        }
+        return status.build();
+    }
+
+    /**
+     * @return the scheduler's pool if adaptive sizing applies to it, otherwise null
+     */
+    private VirtualThreadPool pool() {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            VirtualThreadPool pool = VirtualThreadPool.forScheduler(scheduler.getSchedulerName());
+            if (pool == null && !unsupportedLogged) {
+                unsupportedLogged = true;
+                log.warn("Adaptive pool sizing needs {}; scheduler uses {}", VirtualThreadPool.class.getSimpleName(),
+                        scheduler.getMetaData().getThreadPoolClass().getName());
+            }
+            return pool;
+        } catch (SchedulerException e) {
+            log.warn("Adaptive pool sizing could not inspect the scheduler: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import com.ppuskar.quartzmanager.dto.ClusterNodeStatus;
+import com.ppuskar.quartzmanager.dto.ClusterStatus;
+import com.ppuskar.quartzmanager.entity.ClusterNode;
+import com.ppuskar.quartzmanager.repository.ClusterNodeRepository;
+import com.ppuskar.quartzmanager.repository.QuartzJobStoreRepository;
+import com.ppuskar.quartzmanager.service.SchedulerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.jdbcjobstore.JobStoreSupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-node load reporting for clustered schedulers. Every report interval each instance
+ * writes its fire rate, worker usage and {@code TRIGGER_ACCESS} lock wait (measured by
+ * {@link TimedRowLockSemaphore}) to {@code cluster_nodes}; {@link #getStatus()} combines
+ * the reports of all instances with the job store's check-ins and fired trigger rows to
+ * show how evenly the cluster shares the work.
+ * <p>
+ * Also runs unclustered, in which case it reports the single local node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterMonitor {
+
+    static final String TRIGGER_ACCESS = "TRIGGER_ACCESS";
+    // Quartz's own grace period before it declares a silent instance failed
+    static final long CHECKIN_GRACE_MS = 7500;
+
+    private final Scheduler scheduler;
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final QuartzJobStoreRepository quartzJobStoreRepository;
+
+    @Value("${quartz.cluster.report-interval-ms:10000}")
+    private long reportIntervalMs;
+
+    @Value("${quartz.cluster.node-retention-ms:3600000}")
+    private long nodeRetentionMs;
+
+    @Value("${spring.quartz.properties.org.quartz.jobStore.clusterCheckinInterval:7500}")
+    private long checkinIntervalMs;
+
+    @Value("${spring.quartz.properties.org.quartz.scheduler.batchTriggerAcquisitionMaxCount:1}")
+    private int batchMaxCount;
+
+    @Value("${spring.quartz.properties.org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow:0}")
+    private long batchFireAheadMs;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final String host = hostName();
+    private final LongAdder fires = new LongAdder();
+    private long lastReportNanos = System.nanoTime();
+    private long lastFires;
+    private long lastLockCount;
+    private long lastLockNanos;
+    private volatile double localShare = 1.0;
+    private volatile int liveNodes = 1;
+
+    public void recordFire() {
+        fires.increment();
+    }
+
+    @Scheduled(initialDelayString = "${quartz.cluster.report-interval-ms:10000}",
+            fixedDelayString = "${quartz.cluster.report-interval-ms:10000}")
+    public void report() {
+        try {
+            String schedulerName = scheduler.getSchedulerName();
+            long nowNanos = System.nanoTime();
+            double seconds = Math.max((nowNanos - lastReportNanos) / 1e9, 0.001);
+            long firesTotal = fires.sum();
+            TimedRowLockSemaphore.LockWait lockWait = TimedRowLockSemaphore.waits(schedulerName).get(TRIGGER_ACCESS);
+            long lockCount = lockWait != null ? lockWait.getCount() : 0;
+            long lockNanos = lockWait != null ? lockWait.getTotalNanos() : 0;
+            long lockMaxNanos = lockWait != null ? lockWait.getAndResetMaxNanos() : 0;
+            long windowLocks = lockCount - lastLockCount;
+            VirtualThreadPool pool = VirtualThreadPool.forScheduler(schedulerName);
+
+            LocalDateTime now = LocalDateTime.now();
+            clusterNodeRepository.save(ClusterNode.builder()
+                    .instanceId(scheduler.getSchedulerInstanceId())
+                    .schedulerName(schedulerName)
+                    .host(host)
+                    .startedAt(startedAt)
+                    .reportedAt(now)
+                    .firesTotal(firesTotal)
+                    .firesPerSecond((firesTotal - lastFires) / seconds)
+                    .lockAcquisitions(windowLocks)
+                    .lockWaitAvgMs(windowLocks > 0 ? (lockNanos - lastLockNanos) / 1e6 / windowLocks : 0)
+                    .lockWaitMaxMs(lockMaxNanos / 1e6)
+                    .poolSize(pool != null ? pool.getPoolSize() : scheduler.getMetaData().getThreadPoolSize())
+                    .busy(pool != null ? pool.getBusyCount() : 0)
+                    .build());
+            clusterNodeRepository.deleteReportedBefore(schedulerName, now.minusNanos(nodeRetentionMs * 1_000_000));
+            lastReportNanos = nowNanos;
+            lastFires = firesTotal;
+            lastLockCount = lockCount;
+            lastLockNanos = lockNanos;
+
+            ClusterStatus status = getStatus();
+            liveNodes = status.getLiveNodes();
+            localShare = status.getNodes().stream().filter(ClusterNodeStatus::isLocal)
+                    .mapToDouble(ClusterNodeStatus::getShare).findFirst().orElse(0);
+        } catch (SchedulerException | DataAccessException e) {
+            log.warn("Cluster load report failed: {}", e.getMessage());
+        }
+    }
+
+    public ClusterStatus getStatus() throws SchedulerException {
+        String schedulerName = scheduler.getSchedulerName();
+        String localId = scheduler.getSchedulerInstanceId();
+        boolean clustered = scheduler.getMetaData().isJobStoreClustered();
+        boolean jdbc = JobStoreSupport.class.isAssignableFrom(scheduler.getMetaData().getJobStoreClass());
+        Map<String, QuartzJobStoreRepository.SchedulerStateRow> checkins = clustered
+                ? quartzJobStoreRepository.findSchedulerStates(schedulerName).stream().collect(
+                Collectors.toMap(QuartzJobStoreRepository.SchedulerStateRow::instanceId, Function.identity()))
+                : Map.of();
+        Map<String, QuartzJobStoreRepository.FiredCounts> fired = jdbc
+                ? quartzJobStoreRepository.countFiredTriggersByInstance(schedulerName)
+                : Map.of();
+
+        long now = System.currentTimeMillis();
+        LocalDateTime reportCutoff = LocalDateTime.now().minusNanos(3 * reportIntervalMs * 1_000_000);
+        List<ClusterNode> reports = clusterNodeRepository.findBySchedulerName(schedulerName);
+        double totalFiresPerSecond = 0;
+        int live = 0;
+        List<Boolean> alive = new ArrayList<>();
+        for (ClusterNode node : reports) {
+            QuartzJobStoreRepository.SchedulerStateRow checkin = checkins.get(node.getInstanceId());
+            boolean nodeAlive = !node.getReportedAt().isBefore(reportCutoff) && (!clustered || (checkin != null
+                    && checkin.lastCheckin() + checkin.checkinInterval() + CHECKIN_GRACE_MS >= now));
+            alive.add(nodeAlive);
+            if (nodeAlive) {
+                live++;
+                totalFiresPerSecond += node.getFiresPerSecond();
+            }
+        }
+
+        List<ClusterNodeStatus> nodes = new ArrayList<>();
+        double maxShare = 0;
+        for (int i = 0; i < reports.size(); i++) {
+            ClusterNode node = reports.get(i);
+            QuartzJobStoreRepository.SchedulerStateRow checkin = checkins.get(node.getInstanceId());
+            QuartzJobStoreRepository.FiredCounts counts = fired.getOrDefault(node.getInstanceId(),
+                    new QuartzJobStoreRepository.FiredCounts(0, 0));
+            double share = alive.get(i) && totalFiresPerSecond > 0
+                    ? node.getFiresPerSecond() / totalFiresPerSecond
+                    : 0;
+            maxShare = Math.max(maxShare, share);
+            nodes.add(ClusterNodeStatus.builder()
+                    .instanceId(node.getInstanceId())
+                    .host(node.getHost())
+                    .local(node.getInstanceId().equals(localId))
+                    .alive(alive.get(i))
+                    .startedAt(SchedulerService.DNF.format(node.getStartedAt()))
+                    .reportedAt(SchedulerService.DNF.format(node.getReportedAt()))
+                    .lastCheckin(checkin != null
+                            ? SchedulerService.DNF.format(Instant.ofEpochMilli(checkin.lastCheckin())) : null)
+                    .firesPerSecond(node.getFiresPerSecond())
+                    .share(share)
+                    .firesTotal(node.getFiresTotal())
+                    .lockAcquisitions(node.getLockAcquisitions())
+                    .lockWaitAvgMs(node.getLockWaitAvgMs())
+                    .lockWaitMaxMs(node.getLockWaitMaxMs())
+                    .poolSize(node.getPoolSize())
+                    .busy(node.getBusy())
+                    .acquired(counts.acquired())
+                    .executing(counts.executing())
+                    .build());
+        }
+
+        return ClusterStatus.builder()
+                .clustered(clustered)
+                .schedulerName(schedulerName)
+                .localInstanceId(localId)
+                .checkinIntervalMs(checkinIntervalMs)
+                .batchMaxCount(batchMaxCount)
+                .batchFireAheadMs(batchFireAheadMs)
+                .liveNodes(live)
+                .firesPerSecond(totalFiresPerSecond)
+                .imbalance(totalFiresPerSecond > 0 ? maxShare * live : 0)
+                .nodes(nodes)
+                .build();
+    }
+
+    /**
+     * Share of the cluster's fires handled by this node as of the last report.
+     */
+    public double getLocalShare() {
+        return localShare;
+    }
+
+    public int getLiveNodes() {
+        return liveNodes;
+    }
+
+    public long getLockWaitCount(String lockName) {
+        TimedRowLockSemaphore.LockWait wait = lockWait(lockName);
+        return wait != null ? wait.getCount() : 0;
+    }
+
+    public double getLockWaitNanos(String lockName) {
+        TimedRowLockSemaphore.LockWait wait = lockWait(lockName);
+        return wait != null ? wait.getTotalNanos() : 0;
+    }
+
+    private TimedRowLockSemaphore.LockWait lockWait(String lockName) {
+        try {
+            return TimedRowLockSemaphore.waits(scheduler.getSchedulerName()).get(lockName);
+        } catch (SchedulerException e) {
+            return null;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
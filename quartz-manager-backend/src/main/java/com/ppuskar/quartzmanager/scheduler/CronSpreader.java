@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import com.ppuskar.quartzmanager.dto.LoadProfile;
+import com.ppuskar.quartzmanager.dto.SpreadPreview;
+import com.ppuskar.quartzmanager.dto.TriggerInfo;
+import com.ppuskar.quartzmanager.service.SchedulerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronExpression;
+import org.quartz.JobKey;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Spreads cron jobs that would otherwise all fire in the same second. Each job gets an
+ * offset within the spread window that is derived from a hash of its {@link JobKey}, so it
+ * is stable across restarts and nodes, and the expression is rewritten to fire at that
+ * offset from the start of each period.
+ * <p>
+ * The offset replaces the seconds field, and for minute steps that divide the hour
+ * (every 5 or 15 minutes, say) also the step's starting minute, so the window can cover
+ * the whole step. Other minute fields limit the window to one minute. Expressions whose
+ * seconds field is not a single value are left alone. The rewrite is absolute rather than
+ * relative to the original offset, so spreading an already spread expression is a no-op.
+ * <p>
+ * Spreading is opt-in: per job through {@code JobRequest.spreadWindowSeconds}, or per
+ * group with {@code quartz.cron.spread.groups.<group>=<seconds>}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CronSpreader {
+
+    private static final String GROUP_PREFIX = "quartz.cron.spread.groups.";
+    private static final Pattern SECONDS = Pattern.compile("\\d{1,2}");
+    private static final Pattern MINUTE_STEP = Pattern.compile("(\\*|\\d{1,2})/(\\d{1,2})");
+    private static final int MAX_FIRES_PER_TRIGGER = 10_000;
+
+    private final Environment environment;
+
+    /**
+     * @param requested the job's own window; null falls back to the group's configured window
+     */
+    public int windowFor(JobKey jobKey, Integer requested) {
+        if (requested != null) {
+            return Math.max(requested, 0);
+        }
+        return Math.max(environment.getProperty(GROUP_PREFIX + jobKey.getGroup(), Integer.class,
+                environment.getProperty("quartz.cron.spread.default-window-seconds", Integer.class, 0)), 0);
+    }
+
+    /**
+     * @return the expression rewritten to fire at the job's offset, or the expression
+     * unchanged if the window is 0 or its shape cannot be spread
+     */
+    public String spread(JobKey jobKey, String cronExpression, int windowSeconds) {
+        if (windowSeconds <= 0 || cronExpression == null) {
+            return cronExpression;
+        }
+        String[] fields = cronExpression.trim().split("\\s+");
+        if (fields.length < 6 || !SECONDS.matcher(fields[0]).matches()) {
+            log.debug("Not spreading {}: seconds field of '{}' is not a single value", jobKey, cronExpression);
+            return cronExpression;
+        }
+        Matcher step = MINUTE_STEP.matcher(fields[1]);
+        int stepMinutes = step.matches() ? Integer.parseInt(step.group(2)) : 0;
+        boolean minuteSpread = stepMinutes > 0 && 60 % stepMinutes == 0;
+        int window = Math.min(windowSeconds, minuteSpread ? stepMinutes * 60 : 60);
+
+        long offset = offsetSeconds(jobKey, window);
+        fields[0] = String.valueOf(offset % 60);
+        if (minuteSpread) {
+            fields[1] = (offset / 60) + "/" + stepMinutes;
+        }
+        return String.join(" ", fields);
+    }
+
+    /**
+     * Stable offset in {@code [0, window)}; String hash codes are fixed by the language
+     * spec, and the finalizer spreads similar job names apart.
+     */
+    static long offsetSeconds(JobKey jobKey, int window) {
+        int h = (jobKey.getGroup() + '.' + jobKey.getName()).hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return Integer.toUnsignedLong(h) % window;
+    }
+
+    /**
+     * Counts the fires of the given triggers per bucket over the horizon, as scheduled now
+     * and as they would be with spreading applied.
+     *
+     * @param windowSeconds window to apply to every trigger; null uses each job's group window
+     */
+    public SpreadPreview preview(String group, List<TriggerInfo> triggers, Integer windowSeconds,
+                                 int horizonMinutes, int bucketSeconds) {
+        Instant start = Instant.now().truncatedTo(ChronoUnit.MINUTES).plus(1, ChronoUnit.MINUTES);
+        int buckets = (horizonMinutes * 60 + bucketSeconds - 1) / bucketSeconds;
+        int[] current = new int[buckets];
+        int[] spread = new int[buckets];
+        int jobs = 0;
+        int changed = 0;
+        for (TriggerInfo trigger : triggers) {
+            String cron = trigger.getCronExpression();
+            if (cron == null || cron.isEmpty()) {
+                continue;
+            }
+            JobKey jobKey = new JobKey(trigger.getJobName(), trigger.getJobGroup());
+            String spreadCron = spread(jobKey, cron,
+                    windowSeconds != null ? windowSeconds : windowFor(jobKey, null));
+            try {
+                count(cron, start, bucketSeconds, current);
+                count(spreadCron, start, bucketSeconds, spread);
+            } catch (ParseException e) {
+                log.warn("Skipping {} in spread preview: {}", jobKey, e.getMessage());
+                continue;
+            }
+            jobs++;
+            if (!spreadCron.equals(cron)) {
+                changed++;
+            }
+        }
+        return SpreadPreview.builder()
+                .group(group)
+                .windowSeconds(windowSeconds)
+                .horizonStart(SchedulerService.DNF.format(start))
+                .horizonMinutes(horizonMinutes)
+                .bucketSeconds(bucketSeconds)
+                .jobs(jobs)
+                .spreadJobs(changed)
+                .current(profile(current, start, bucketSeconds))
+                .spread(profile(spread, start, bucketSeconds))
+                .build();
+    }
+
+    private static void count(String cron, Instant start, int bucketSeconds, int[] buckets) throws ParseException {
+        CronExpression expression = new CronExpression(cron);
+        long startMillis = start.toEpochMilli();
+        long endMillis = startMillis + (long) buckets.length * bucketSeconds * 1000;
+        // The start itself is a valid fire time, so begin just before it
+        Date next = expression.getNextValidTimeAfter(new Date(startMillis - 1));
+        for (int fires = 0; next != null && next.getTime() < endMillis && fires < MAX_FIRES_PER_TRIGGER; fires++) {
+            buckets[(int) ((next.getTime() - startMillis) / 1000 / bucketSeconds)]++;
+            next = expression.getNextValidTimeAfter(next);
+        }
+    }
+
+    private static LoadProfile profile(int[] buckets, Instant start, int bucketSeconds) {
+        long fires = 0;
+        int peak = 0;
+        int peakIndex = 0;
+        int active = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            fires += buckets[i];
+            if (buckets[i] > 0) {
+                active++;
+            }
+            if (buckets[i] > peak) {
+                peak = buckets[i];
+                peakIndex = i;
+            }
+        }
+        return LoadProfile.builder()
+                .fires(fires)
+                .peakFires(peak)
+                .peakAt(peak > 0 ? SchedulerService.DNF.format(start.plusSeconds((long) peakIndex * bucketSeconds)) : null)
+                .activeBuckets(active)
+                .averageFiresPerActiveBucket(active > 0 ? (double) fires / active : 0)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import com.ppuskar.quartzmanager.dto.LaneStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execution lanes of the {@link VirtualThreadPool}, so slow bulk jobs cannot take every
+ * worker from latency-critical ones. Lanes are declared with {@code quartz.lanes.names}
+ * and configured per lane:
+ * <ul>
+ *     <li>{@code quartz.lanes.<lane>.reserved} - workers only this lane uses</li>
+ *     <li>{@code quartz.lanes.<lane>.max-concurrent} - cap on the lane's running jobs, 0 for none</li>
+ *     <li>{@code quartz.lanes.<lane>.priority} - Quartz trigger priority of the lane's jobs, and
+ *     which lane gets freed shared workers first</li>
+ * </ul>
+ * A job runs in the lane named by {@code lane} in its job data, else in the lane of its
+ * group ({@code quartz.lanes.groups.<group>=<lane>}), else in the default lane.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionLanes {
+
+    public static final String LANE = "lane";
+
+    private static final String PREFIX = "quartz.lanes.";
+    private static final String GROUPS_PREFIX = "quartz.lanes.groups.";
+
+    private final Scheduler scheduler;
+    private final Environment environment;
+
+    @Value("${quartz.lanes.names:}")
+    private String names;
+
+    @Value("${quartz.lanes.max-queued:1000}")
+    private int maxQueued;
+
+    private final Map<String, VirtualThreadPool.LaneLimits> limits = new LinkedHashMap<>();
+    private VirtualThreadPool pool;
+
+    @PostConstruct
+    public void configure() throws SchedulerException {
+        for (String name : names.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            limits.put(name, new VirtualThreadPool.LaneLimits(name,
+                    environment.getProperty(PREFIX + name + ".reserved", Integer.class, 0),
+                    environment.getProperty(PREFIX + name + ".max-concurrent", Integer.class, 0),
+                    environment.getProperty(PREFIX + name + ".priority", Integer.class, Trigger.DEFAULT_PRIORITY)));
+        }
+        pool = VirtualThreadPool.forScheduler(scheduler.getSchedulerName());
+        if (pool == null) {
+            if (!limits.isEmpty()) {
+                log.warn("Execution lanes need {}; scheduler uses {}", VirtualThreadPool.class.getSimpleName(),
+                        scheduler.getMetaData().getThreadPoolClass().getName());
+            }
+            return;
+        }
+        pool.configureLanes(new ArrayList<>(limits.values()), maxQueued);
+    }
+
+    /**
+     * @param jobData job data of the job or trigger; an unknown lane name is ignored
+     */
+    public String laneFor(String jobGroup, Map<String, ?> jobData) {
+        Object explicit = jobData != null ? jobData.get(LANE) : null;
+        if (explicit != null && limits.containsKey(explicit.toString())) {
+            return explicit.toString();
+        }
+        String lane = environment.getProperty(GROUPS_PREFIX + jobGroup);
+        return lane != null && limits.containsKey(lane) ? lane : VirtualThreadPool.DEFAULT_LANE;
+    }
+
+    public int priorityFor(String lane) {
+        VirtualThreadPool.LaneLimits laneLimits = limits.get(lane);
+        return laneLimits != null ? laneLimits.priority() : Trigger.DEFAULT_PRIORITY;
+    }
+
+    /**
+     * Routes the job about to be handed to the pool to its lane. Called on the scheduler
+     * thread while Quartz prepares the fire.
+     */
+    public void assign(TriggerFiredBundle bundle) {
+        if (pool == null || limits.isEmpty()) {
+            return;
+        }
+        Map<String, Object> triggerData = bundle.getTrigger().getJobDataMap();
+        pool.assignLane(laneFor(bundle.getJobDetail().getKey().getGroup(),
+                triggerData.containsKey(LANE) ? triggerData : bundle.getJobDetail().getJobDataMap()));
+    }
+
+    public List<String> getLaneNames() {
+        List<String> lanes = new ArrayList<>();
+        lanes.add(VirtualThreadPool.DEFAULT_LANE);
+        limits.keySet().stream().filter(name -> !name.equals(VirtualThreadPool.DEFAULT_LANE)).forEach(lanes::add);
+        return lanes;
+    }
+
+    /**
+     * @return the lane's state, or null if the scheduler does not use {@link VirtualThreadPool}
+     */
+    public VirtualThreadPool.LaneSnapshot snapshot(String lane) {
+        if (pool == null) {
+            return null;
+        }
+        return pool.getLaneSnapshots().stream().filter(s -> s.name().equals(lane)).findFirst().orElse(null);
+    }
+
+    public List<LaneStatus> getStatus() {
+        if (pool == null) {
+            return List.of();
+        }
+        return pool.getLaneSnapshots().stream()
+                .map(s -> LaneStatus.builder()
+                        .lane(s.name())
+                        .reserved(s.reserved())
+                        .maxConcurrent(s.maxConcurrent())
+                        .priority(s.priority())
+                        .active(s.active())
+                        .queued(s.queued())
+                        .started(s.started())
+                        .avgQueueMs(s.started() > 0 ? s.totalWaitNanos() / 1e6 / s.started() : 0)
+                        .maxQueueMs(s.maxWaitNanos() / 1e6)
+                        .oldestQueuedMs(s.oldestWaitNanos() / 1e6)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import org.quartz.JobDataMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Reads and writes the {@code JOB_DATA} column of the Quartz JDBC job store without going
+ * through {@code Scheduler.getJobDetail}, so bulk reads can decode only the rows they return.
+ * <p>
+ * With {@code org.quartz.jobStore.useProperties=true} the job store writes job data as
+ * {@link Properties} text, which is several times smaller than a serialized
+ * {@link JobDataMap}, cheap to parse and readable in SQL. It requires every value to be a
+ * String; {@link #toJobDataMap} builds such maps. Rows written before the switch are still
+ * Java-serialized and are recognized by their stream header.
+ */
+public final class JobDataCodec {
+
+    private static final byte[] SERIALIZED_HEADER = {(byte) 0xAC, (byte) 0xED};
+
+    private JobDataCodec() {
+    }
+
+    public static Map<String, Object> decode(byte[] blob) {
+        if (blob == null || blob.length == 0) {
+            return new LinkedHashMap<>();
+        }
+        if (isSerialized(blob)) {
+            return deserialize(blob);
+        }
+        Properties properties = new Properties();
+        try {
+            properties.load(new ByteArrayInputStream(blob));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to decode job data", e);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            result.put(key, properties.getProperty(key));
+        }
+        return result;
+    }
+
+    /**
+     * Properties text as the job store reads it with {@code useProperties=true}, without the
+     * timestamp comment {@link Properties#store} starts with.
+     */
+    public static byte[] encode(Map<String, ?> data) {
+        Properties properties = new Properties();
+        data.forEach((key, value) -> properties.setProperty(key, stringValue(value)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            // The byte stream variant escapes everything outside Latin-1, which is what load expects
+            properties.store(out, null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode job data", e);
+        }
+        byte[] text = out.toByteArray();
+        int start = 0;
+        while (start < text.length && text[start] != '\n') {
+            start++;
+        }
+        return Arrays.copyOfRange(text, Math.min(start + 1, text.length), text.length);
+    }
+
+    /**
+     * String-only copy of the given data: null values become empty strings, as the job
+     * store would read them back, and other values their string form.
+     */
+    public static JobDataMap toJobDataMap(Map<String, ?> data) {
+        JobDataMap jobDataMap = new JobDataMap();
+        if (data != null) {
+            data.forEach((key, value) -> jobDataMap.put(key, stringValue(value)));
+        }
+        return jobDataMap;
+    }
+
+    /**
+     * Whether the column holds a Java-serialized map rather than properties text.
+     */
+    public static boolean isSerialized(byte[] blob) {
+        return blob != null && blob.length >= 2
+                && blob[0] == SERIALIZED_HEADER[0] && blob[1] == SERIALIZED_HEADER[1];
+    }
+
+    private static Map<String, Object> deserialize(byte[] blob) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(blob))) {
+            Object value = in.readObject();
+            if (value instanceof JobDataMap jobDataMap) {
+                return new LinkedHashMap<>(jobDataMap.getWrappedMap());
+            }
+            if (value instanceof Map<?, ?> map) {
+                Map<String, Object> result = new LinkedHashMap<>();
+                map.forEach((k, v) -> result.put(String.valueOf(k), v));
+                return result;
+            }
+            throw new IllegalStateException("Unexpected job data type: " + value.getClass().getName());
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to decode job data", e);
+        }
+    }
+
+    private static String stringValue(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
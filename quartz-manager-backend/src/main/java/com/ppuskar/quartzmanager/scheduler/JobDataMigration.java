@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import com.ppuskar.quartzmanager.repository.QuartzJobStoreRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Converts job data written as serialized Java objects to the properties text the job
+ * store reads once {@code org.quartz.jobStore.useProperties} is on. Quartz itself would
+ * parse the old rows as properties and hand jobs garbage, so this runs while the
+ * scheduler is created but not yet started, before any trigger is acquired.
+ * <p>
+ * Nodes of an older version cannot read properties text, and they keep writing serialized
+ * rows, so the two formats cannot share a cluster. The conversion is therefore opt-in
+ * ({@code quartz.jobs.data-migration.enabled}) and refuses to run while another node is
+ * checked in; a node that finds serialized rows without converting them fails to start
+ * rather than run jobs with garbage data.
+ * <p>
+ * Values that are not Strings are stored as their string form. Rows that are already
+ * properties text are left alone, so restarts are harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobDataMigration {
+
+    private final Scheduler scheduler;
+    private final QuartzJobStoreRepository quartzJobStoreRepository;
+
+    @Value("${spring.quartz.properties.org.quartz.jobStore.useProperties:false}")
+    private boolean useProperties;
+
+    @Value("${quartz.jobs.data-migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${quartz.jobs.data-migration.batch-size:500}")
+    private int batchSize;
+
+    @PostConstruct
+    public void migrate() {
+        if (!useProperties) {
+            return;
+        }
+        try {
+            migrate(scheduler.getSchedulerName());
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Failed to check the job data format", e);
+        }
+    }
+
+    private void migrate(String schedulerName) throws SchedulerException {
+        if (!quartzJobStoreRepository.hasSerializedJobData(schedulerName)) {
+            return;
+        }
+        if (!enabled) {
+            throw new IllegalStateException("The job store holds job data serialized as Java objects, which"
+                    + " cannot be read with useProperties=true. Stop every node, then start one node with"
+                    + " quartz.jobs.data-migration.enabled=true to convert it");
+        }
+        if (scheduler.getMetaData().isJobStoreClustered()) {
+            List<String> live = liveInstances(schedulerName);
+            if (!live.isEmpty()) {
+                throw new IllegalStateException("Cannot convert serialized job data while other nodes are"
+                        + " running (" + String.join(", ", live) + "). Stop every node before the upgrade");
+            }
+        }
+        long started = System.currentTimeMillis();
+        int converted = quartzJobStoreRepository.convertSerializedJobData(schedulerName, Math.max(batchSize, 1));
+        log.info("Converted job data of {} jobs and triggers to properties in {} ms", converted,
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Other instances whose last check-in is recent enough that Quartz still considers
+     * them alive. This node has not checked in yet; a row under its own id is from a
+     * previous run.
+     */
+    private List<String> liveInstances(String schedulerName) throws SchedulerException {
+        String self = scheduler.getSchedulerInstanceId();
+        long now = System.currentTimeMillis();
+        return quartzJobStoreRepository.findSchedulerStates(schedulerName).stream()
+                .filter(state -> !state.instanceId().equals(self))
+                .filter(state -> state.lastCheckin() + state.checkinInterval() + ClusterMonitor.CHECKIN_GRACE_MS >= now)
+                .map(QuartzJobStoreRepository.SchedulerStateRow::instanceId)
+                .toList();
+    }
+}
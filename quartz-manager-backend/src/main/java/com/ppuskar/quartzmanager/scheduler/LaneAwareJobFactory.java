@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import org.quartz.Job;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.quartz.SpringBeanJobFactory;
+
+/**
+ * Spring's autowiring job factory that also tells the {@link VirtualThreadPool} which lane
+ * the job belongs to. Quartz creates the job instance on the scheduler thread immediately
+ * before handing the fire to the thread pool, which makes this the last point where the
+ * fire's job and trigger are known before a worker is chosen.
+ */
+public class LaneAwareJobFactory extends SpringBeanJobFactory {
+
+    private ApplicationContext applicationContext;
+    private volatile ExecutionLanes executionLanes;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        super.setApplicationContext(applicationContext);
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public Job newJob(TriggerFiredBundle bundle, Scheduler scheduler) throws SchedulerException {
+        Job job = super.newJob(bundle, scheduler);
+        if (executionLanes == null) {
+            // Looked up lazily: the lanes need the scheduler this factory is part of
+            executionLanes = applicationContext.getBean(ExecutionLanes.class);
+        }
+        executionLanes.assign(bundle);
+        return job;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Lets only one instance sharing the database run a maintenance task at a time. Scheduled
+ * maintenance fires on every node at the same moment, and tasks that fold or drop rows
+ * would otherwise all work on the same data.
+ * <p>
+ * Uses a MySQL named lock held by one pooled connection for the duration of the task.
+ * Unlike a row lock it survives commits, including the implicit ones of partition DDL,
+ * and the server releases it if the instance dies. Names are scoped to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MaintenanceLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs the task if no other instance is running it, without waiting.
+     *
+     * @return false if another instance holds the lock and the task was skipped
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!call(connection, "SELECT GET_LOCK(CONCAT(DATABASE(), '.', ?), 0)", name)) {
+                log.debug("Maintenance task {} is running on another instance, skipping", name);
+                return false;
+            }
+            try {
+                task.run();
+            } finally {
+                if (!call(connection, "SELECT RELEASE_LOCK(CONCAT(DATABASE(), '.', ?))", name)) {
+                    log.warn("Maintenance lock {} was not held when released", name);
+                }
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean call(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+}
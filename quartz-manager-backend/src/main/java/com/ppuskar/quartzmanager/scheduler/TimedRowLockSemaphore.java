@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import org.quartz.impl.jdbcjobstore.LockException;
+import org.quartz.impl.jdbcjobstore.StdRowLockSemaphore;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The job store's default {@code SELECT ... FOR UPDATE} lock on {@code QRTZ_LOCKS}, timed.
+ * Every trigger acquisition, fire and completion takes {@code TRIGGER_ACCESS}, so its wait
+ * time is where contention between cluster nodes shows up first.
+ *
+ * <p>Configured with {@code org.quartz.jobStore.lockHandler.class}. Quartz creates the
+ * instance itself, so the timings are found by scheduler name through {@link #waits}.
+ */
+public class TimedRowLockSemaphore extends StdRowLockSemaphore {
+
+    private static final Map<String, Map<String, LockWait>> WAITS = new ConcurrentHashMap<>();
+
+    /**
+     * Cumulative wait for one lock. Only acquisitions that had to go to the database are
+     * counted; re-entrant acquisitions by the lock owner are free.
+     */
+    public static final class LockWait {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getAndResetMaxNanos() {
+            return maxNanos.getThenReset();
+        }
+    }
+
+    @Override
+    public boolean obtainLock(Connection conn, String lockName) throws LockException {
+        if (isLockOwner(lockName)) {
+            return super.obtainLock(conn, lockName);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.obtainLock(conn, lockName);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            LockWait wait = waits(getSchedName()).computeIfAbsent(lockName, k -> new LockWait());
+            wait.count.increment();
+            wait.totalNanos.add(elapsed);
+            wait.maxNanos.accumulate(elapsed);
+        }
+    }
+
+    /**
+     * @return lock name to wait statistics for the scheduler's job store; empty until the
+     * first lock is taken or if the job store does not use this lock handler
+     */
+    public static Map<String, LockWait> waits(String schedulerName) {
+        return WAITS.computeIfAbsent(schedulerName, k -> new ConcurrentHashMap<>());
+    }
+}
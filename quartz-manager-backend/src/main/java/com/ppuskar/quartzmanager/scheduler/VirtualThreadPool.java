@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.Trigger;
+import org.quartz.spi.ThreadPool;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Quartz {@link ThreadPool} that runs every job on its own virtual thread. Concurrency is
+ * bounded by a counter instead of a fixed set of platform threads, so blocking jobs such
+ * as HttpJob can scale to high parallelism cheaply.
+ *
+ * <p>Configured through {@code org.quartz.threadPool.*}: {@code maxConcurrency} sets the
+ * limit; when it is absent the standard {@code threadCount} property is used instead.
+ * The limit can be changed at runtime with {@link #resize(int)}; Quartz creates the pool
+ * itself, so running pools are found by scheduler name through {@link #forScheduler}.
+ *
+ * <p>The limit can be split into lanes with {@link #configureLanes}. A lane may reserve
+ * workers that only its jobs use and cap how many of the shared workers it takes. A job
+ * whose lane has no free worker is queued on that lane instead of blocking the scheduler
+ * thread, so jobs of other lanes keep starting. The lane of the next job is announced with
+ * {@link #assignLane} right before Quartz hands it over; unannounced jobs run in the
+ * {@link #DEFAULT_LANE}.
+ */
+@Slf4j
+public class VirtualThreadPool implements ThreadPool {
+
+    public static final String DEFAULT_LANE = "default";
+
+    private static final Map<String, VirtualThreadPool> POOLS = new ConcurrentHashMap<>();
+
+    private int threadCount = 10;
+    private int maxConcurrency = -1;
+    private String threadNamePrefix;
+
+    private String instanceName = "QuartzScheduler";
+    private String instanceId = "NON_CLUSTERED";
+
+    private volatile int limit;
+    private final AtomicInteger peakBusy = new AtomicInteger();
+    private ThreadFactory threadFactory;
+    private volatile boolean shutdown;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final ThreadLocal<String> nextLane = new ThreadLocal<>();
+
+    // Guarded by lock
+    private final Map<String, Lane> lanes = new LinkedHashMap<>();
+    private List<Lane> dispatchOrder = new ArrayList<>();
+    private int reservedTotal;
+    private int reservedBusy;
+    private int sharedBusy;
+    private int queued;
+    private int maxQueued = Integer.MAX_VALUE;
+
+    /**
+     * @param reserved      workers only this lane uses; they count towards the pool limit
+     * @param maxConcurrent most jobs of the lane running at once, 0 for no cap
+     * @param priority      lanes with a higher priority get freed shared workers first
+     */
+    public record LaneLimits(String name, int reserved, int maxConcurrent, int priority) {
+    }
+
+    /**
+     * State of one lane. Wait times are measured from the hand-over by the scheduler
+     * thread to the start of the job.
+     */
+    public record LaneSnapshot(String name, int reserved, int maxConcurrent, int priority, int active,
+                               int queued, long started, long totalWaitNanos, long maxWaitNanos,
+                               long oldestWaitNanos) {
+    }
+
+    private record Pending(Runnable runnable, long enqueuedNanos) {
+    }
+
+    private static final class Lane {
+        private final String name;
+        private LaneLimits limits;
+        private int active;
+        private final Deque<Pending> queue = new ArrayDeque<>();
+        private long started;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+
+        Lane(LaneLimits limits) {
+            this.name = limits.name();
+            this.limits = limits;
+        }
+
+        int reserved() {
+            return limits.reserved();
+        }
+
+        int ceiling() {
+            return limits.maxConcurrent() > 0 ? Math.max(limits.maxConcurrent(), reserved()) : Integer.MAX_VALUE;
+        }
+    }
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        limit = maxConcurrency > 0 ? maxConcurrency : threadCount;
+        if (limit <= 0) {
+            throw new SchedulerConfigException("Concurrency limit must be > 0");
+        }
+        String prefix = threadNamePrefix != null ? threadNamePrefix : instanceName + "-vt-";
+        threadFactory = Thread.ofVirtual().name(prefix, 0).factory();
+        configureLanes(List.of(), Integer.MAX_VALUE);
+        POOLS.put(instanceName, this);
+        log.info("Initialized virtual thread pool for {} with concurrency limit {}", instanceName, limit);
+    }
+
+    /**
+     * Replaces the lane limits. Lanes keep their running and queued jobs; lanes missing from
+     * {@code limits} fall back to no reservation and no cap, and the default lane always exists.
+     *
+     * @param maxQueued jobs queued across all lanes before the scheduler thread stops handing
+     *                  over more
+     */
+    public void configureLanes(List<LaneLimits> limits, int maxQueued) {
+        lock.lock();
+        try {
+            lanes.values().forEach(lane -> lane.limits = unlimited(lane.name));
+            lanes.computeIfAbsent(DEFAULT_LANE, name -> new Lane(unlimited(name)));
+            for (LaneLimits l : limits) {
+                lanes.computeIfAbsent(l.name(), name -> new Lane(l)).limits = l;
+            }
+            reservedTotal = 0;
+            reservedBusy = 0;
+            sharedBusy = 0;
+            for (Lane lane : lanes.values()) {
+                reservedTotal += lane.reserved();
+                reservedBusy += Math.min(lane.active, lane.reserved());
+                sharedBusy += Math.max(lane.active - lane.reserved(), 0);
+            }
+            dispatchOrder = lanes.values().stream()
+                    .sorted(Comparator.comparingInt((Lane lane) -> lane.limits.priority()).reversed())
+                    .toList();
+            this.maxQueued = Math.max(maxQueued, 1);
+            dispatch();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (!limits.isEmpty()) {
+            log.info("Configured {} lanes for {} ({} of {} workers reserved)", limits.size(), instanceName,
+                    reservedTotal, limit);
+        }
+    }
+
+    private static LaneLimits unlimited(String lane) {
+        return new LaneLimits(lane, 0, 0, Trigger.DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Names the lane of the job handed over next by the calling thread.
+     */
+    public void assignLane(String lane) {
+        nextLane.set(lane);
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        String laneName = nextLane.get();
+        nextLane.remove();
+        if (runnable == null || shutdown) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (shutdown) {
+                return false;
+            }
+            Lane lane = laneName != null ? lanes.getOrDefault(laneName, lanes.get(DEFAULT_LANE))
+                    : lanes.get(DEFAULT_LANE);
+            if (lane.queue.isEmpty() && admissible(lane)) {
+                return start(lane, runnable, 0);
+            }
+            lane.queue.addLast(new Pending(runnable, System.nanoTime()));
+            queued++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until a job of the default lane could start and fewer than the maximum number
+     * of jobs are queued, and reports how many such jobs could start. The scheduler thread
+     * uses the returned value to size its trigger acquisition batch. Reserved workers of
+     * other lanes are not counted: the lane of a trigger is only known once it has been
+     * acquired, and triggers acquired for workers their lane cannot use would wait in the
+     * lane queue and go stale.
+     */
+    @Override
+    public int blockForAvailableThreads() {
+        lock.lock();
+        try {
+            while ((acquirable() < 1 || queued >= maxQueued) && !shutdown) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return Math.max(acquirable(), 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        POOLS.remove(instanceName, this);
+        lock.lock();
+        try {
+            released.signalAll();
+            if (!waitForJobsToComplete) {
+                discardQueued();
+                return;
+            }
+            // Queued jobs have already been fired; they start under the usual limits as
+            // running jobs finish
+            dispatch();
+            while (reservedBusy + sharedBusy > 0) {
+                log.debug("Waiting for {} running and {} queued jobs to complete", reservedBusy + sharedBusy, queued);
+                released.await();
+            }
+            // Nothing is running, so whatever is still queued can never get a worker
+            discardQueued();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardQueued();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Virtual thread pool for {} shut down", instanceName);
+    }
+
+    /**
+     * @return the pool started by the named scheduler, or null if it does not use this class
+     */
+    public static VirtualThreadPool forScheduler(String schedulerName) {
+        return POOLS.get(schedulerName);
+    }
+
+    /**
+     * Changes the concurrency limit. Growing takes effect at once; when shrinking below
+     * the number of running jobs, new jobs wait until enough of them have finished.
+     * Reserved lane workers stay available even if the limit drops below their sum.
+     */
+    public void resize(int newLimit) {
+        if (newLimit <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be > 0");
+        }
+        lock.lock();
+        try {
+            if (newLimit == limit) {
+                return;
+            }
+            limit = newLimit;
+            dispatch();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Resized virtual thread pool for {} to concurrency limit {}", instanceName, newLimit);
+    }
+
+    /**
+     * Highest number of jobs running at once since the previous call.
+     */
+    public int getAndResetPeakBusy() {
+        int busy = getBusyCount();
+        return Math.max(peakBusy.getAndSet(busy), busy);
+    }
+
+    @Override
+    public int getPoolSize() {
+        return limit;
+    }
+
+    public int getBusyCount() {
+        lock.lock();
+        try {
+            return reservedBusy + sharedBusy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getAvailableCount() {
+        lock.lock();
+        try {
+            return Math.max(available(), 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<LaneSnapshot> getLaneSnapshots() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            List<LaneSnapshot> snapshots = new ArrayList<>(lanes.size());
+            for (Lane lane : lanes.values()) {
+                Pending oldest = lane.queue.peekFirst();
+                snapshots.add(new LaneSnapshot(lane.name, lane.reserved(), lane.limits.maxConcurrent(),
+                        lane.limits.priority(), lane.active, lane.queue.size(), lane.started, lane.totalWaitNanos,
+                        lane.maxWaitNanos, oldest != null ? now - oldest.enqueuedNanos() : 0));
+            }
+            return snapshots;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        this.instanceId = schedInstId;
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    // The methods below must be called while holding the lock
+
+    private int sharedCapacity() {
+        return Math.max(limit - reservedTotal, 0);
+    }
+
+    private int available() {
+        return reservedTotal - reservedBusy + sharedCapacity() - sharedBusy;
+    }
+
+    /**
+     * Workers a job of the default lane could start on now. Falls back to every free worker
+     * if the default lane can never get one, so the scheduler thread is not blocked for good.
+     */
+    private int acquirable() {
+        Lane lane = lanes.get(DEFAULT_LANE);
+        if (lane.reserved() == 0 && sharedCapacity() == 0) {
+            return available();
+        }
+        int free = Math.max(lane.reserved() - lane.active, 0) + sharedCapacity() - sharedBusy;
+        return Math.min(free, lane.ceiling() - lane.active);
+    }
+
+    private boolean admissible(Lane lane) {
+        return lane.active < lane.ceiling()
+                && (lane.active < lane.reserved() || sharedBusy < sharedCapacity());
+    }
+
+    private boolean start(Lane lane, Runnable runnable, long waitNanos) {
+        take(lane);
+        lane.started++;
+        lane.totalWaitNanos += waitNanos;
+        lane.maxWaitNanos = Math.max(lane.maxWaitNanos, waitNanos);
+        peakBusy.accumulateAndGet(reservedBusy + sharedBusy, Math::max);
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    finished(lane);
+                }
+            }).start();
+            return true;
+        } catch (RuntimeException e) {
+            give(lane);
+            log.error("Failed to start virtual thread for job", e);
+            return false;
+        }
+    }
+
+    private void finished(Lane lane) {
+        lock.lock();
+        try {
+            give(lane);
+            dispatch();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts queued jobs while workers are free, highest priority lane first. Also runs
+     * during a shutdown that waits for jobs, to drain the queues.
+     */
+    private void dispatch() {
+        if (queued == 0) {
+            return;
+        }
+        for (Lane lane : dispatchOrder) {
+            while (!lane.queue.isEmpty() && admissible(lane)) {
+                Pending pending = lane.queue.pollFirst();
+                queued--;
+                start(lane, pending.runnable(), System.nanoTime() - pending.enqueuedNanos());
+            }
+        }
+    }
+
+    private void discardQueued() {
+        int discarded = queued;
+        lanes.values().forEach(lane -> lane.queue.clear());
+        queued = 0;
+        if (discarded > 0) {
+            log.warn("Discarded {} queued jobs on shutdown of {}", discarded, instanceName);
+        }
+    }
+
+    private void take(Lane lane) {
+        if (lane.active < lane.reserved()) {
+            reservedBusy++;
+        } else {
+            sharedBusy++;
+        }
+        lane.active++;
+    }
+
+    private void give(Lane lane) {
+        lane.active--;
+        if (lane.active < lane.reserved()) {
+            reservedBusy--;
+        } else {
+            sharedBusy--;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.dto.HistoryPage;
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import com.ppuskar.quartzmanager.repository.ExecutionLogRepository;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Read side of execution history. Pages are addressed by a keyset cursor on
+ * (fireTime, id) rather than an offset, so every page is a bounded range scan on the
+ * job's composite index no matter how much history has accumulated. The latest few
+ * executions of a job are served from the {@link RecentExecutionCache}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionHistoryService {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("fireTime"), Sort.Order.desc("id"));
+
+    private final ExecutionLogRepository executionLogRepository;
+    private final RecentExecutionCache recentExecutionCache;
+
+    public List<ExecutionLog> getRecentHistory(String group, String name, int limit) {
+        List<ExecutionLog> recent = recentExecutionCache.latest(new JobKey(name, group), limit,
+                n -> findRecent(group, name, n));
+        return recent != null ? recent : recentExecutionCache.summarize(findRecent(group, name, limit));
+    }
+
+    private List<ExecutionLog> findRecent(String group, String name, int limit) {
+        return executionLogRepository.findByJobGroupAndJobNameOrderByFireTimeDescIdDesc(group, name, Limit.of(limit));
+    }
+
+    public HistoryPage getHistoryPage(String group, String name, ExecutionLog.ExecutionStatus status,
+                                      LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        Cursor after = cursor != null && !cursor.isBlank() ? Cursor.decode(cursor) : null;
+
+        Specification<ExecutionLog> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("jobGroup"), group));
+            predicates.add(cb.equal(root.get("jobName"), name));
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("fireTime"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("fireTime"), to));
+            }
+            if (after != null) {
+                predicates.add(cb.or(
+                        cb.lessThan(root.get("fireTime"), after.fireTime()),
+                        cb.and(cb.equal(root.get("fireTime"), after.fireTime()),
+                                cb.lessThan(root.get("id"), after.id()))));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+
+        // One extra row tells us whether another page exists without a count query
+        List<ExecutionLog> rows = executionLogRepository.findBy(spec,
+                q -> q.sortBy(NEWEST_FIRST).limit(size + 1).all());
+        if (rows.size() <= size) {
+            return new HistoryPage(rows, null);
+        }
+        List<ExecutionLog> items = rows.subList(0, size);
+        ExecutionLog last = items.get(size - 1);
+        return new HistoryPage(items, new Cursor(last.getFireTime(), last.getId()).encode());
+    }
+
+    record Cursor(LocalDateTime fireTime, long id) {
+
+        String encode() {
+            String raw = fireTime + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid history cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams execution history straight from a forward-only JDBC cursor to the response.
+ * Each row is written as soon as it is read, so memory use does not depend on how many
+ * rows the export covers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionLogExportService {
+
+    private static final String[] COLUMNS = {"id", "job_group", "job_name", "trigger_group", "trigger_name",
+            "fire_time", "end_time", "duration", "status", "message", "attempt", "origin_fire_id"};
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    // MySQL honours a positive fetch size only with useCursorFetch=true on the JDBC URL
+    @Value("${quartz.history.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public long export(OutputStream out, Format format, LocalDateTime from, LocalDateTime to,
+                       String group, String name, ExecutionLog.ExecutionStatus status) throws IOException {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", COLUMNS))
+                .append(" FROM execution_logs WHERE 1 = 1");
+        if (from != null) {
+            sql.append(" AND fire_time >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND fire_time < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        if (group != null && !group.isBlank()) {
+            sql.append(" AND job_group = ?");
+            args.add(group);
+        }
+        if (name != null && !name.isBlank()) {
+            sql.append(" AND job_name = ?");
+            args.add(name);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        sql.append(" ORDER BY fire_time, id");
+
+        long[] rows = {0};
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out, jsonMapper);
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; stop reading instead of draining the cursor
+            throw e.getCause();
+        }
+        log.info("Exported {} execution logs as {}", rows[0], format);
+        return rows[0];
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private boolean empty = true;
+
+        NdjsonRowWriter(OutputStream out, JsonMapper jsonMapper) {
+            this.generator = jsonMapper.writer().withRootValueSeparator("\n").createGenerator(out);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            generator.writeStartObject();
+            generator.writeNumberProperty("id", rs.getLong("id"));
+            generator.writeStringProperty("jobGroup", rs.getString("job_group"));
+            generator.writeStringProperty("jobName", rs.getString("job_name"));
+            generator.writeStringProperty("triggerGroup", rs.getString("trigger_group"));
+            generator.writeStringProperty("triggerName", rs.getString("trigger_name"));
+            generator.writeStringProperty("fireTime", isoOrNull(rs.getTimestamp("fire_time")));
+            generator.writeStringProperty("endTime", isoOrNull(rs.getTimestamp("end_time")));
+            long duration = rs.getLong("duration");
+            if (rs.wasNull()) {
+                generator.writeNullProperty("duration");
+            } else {
+                generator.writeNumberProperty("duration", duration);
+            }
+            generator.writeStringProperty("status", rs.getString("status"));
+            generator.writeStringProperty("message", rs.getString("message"));
+            int attempt = rs.getInt("attempt");
+            if (rs.wasNull()) {
+                generator.writeNullProperty("attempt");
+            } else {
+                generator.writeNumberProperty("attempt", attempt);
+            }
+            generator.writeStringProperty("originFireId", rs.getString("origin_fire_id"));
+            generator.writeEndObject();
+            empty = false;
+        }
+
+        @Override
+        public void finish() {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(COLUMNS[i]);
+                if (value instanceof Timestamp ts) {
+                    writer.write(ts.toLocalDateTime().toString());
+                } else if (value instanceof LocalDateTime time) {
+                    writer.write(time.toString());
+                } else if (value != null) {
+                    writeEscaped(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeEscaped(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static String isoOrNull(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
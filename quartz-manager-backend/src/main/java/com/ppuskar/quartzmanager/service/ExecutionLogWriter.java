@@ -0,0 +1,453 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind pipeline for execution history. Quartz worker threads only enqueue
+ * {@link ExecutionLog} rows; a single background flusher writes them with JDBC batch
+ * inserts. Whatever is still queued when the application shuts down is drained before
+ * the data source goes away. Written rows are passed on to the {@link RecentExecutionCache}
+ * with their generated ids, so the cache never shows a row the database does not have.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionLogWriter {
+
+    static final String INSERT_SQL = "INSERT INTO execution_logs "
+            + "(job_name, job_group, trigger_name, trigger_group, fire_time, end_time, duration, status, message, "
+            + "attempt, origin_fire_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP_OLDEST,
+        SPILL
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuartzMetrics quartzMetrics;
+    private final RecentExecutionCache recentExecutionCache;
+
+    @Value("${quartz.history.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${quartz.history.writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${quartz.history.writer.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${quartz.history.writer.overflow-policy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${quartz.history.writer.spill-file:./data/execution-log-spill.tsv}")
+    private Path spillFile;
+
+    private BlockingQueue<ExecutionLog> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private final Object spillLock = new Object();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        flusher = Thread.ofPlatform().name("execution-log-writer").daemon(true).unstarted(this::runFlusher);
+        flusher.start();
+        log.info("Started execution log writer (capacity={}, batchSize={}, flushIntervalMs={}, overflow={})",
+                queueCapacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything enqueued after the flusher exited is written synchronously.
+        List<ExecutionLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeBatch(remaining);
+        }
+        log.info("Execution log writer stopped. written={}, dropped={}, spilled={}",
+                written.get(), dropped.get(), spilled.get());
+    }
+
+    /**
+     * Hands a row to the flusher. Never throws; when the queue is full the configured
+     * {@link OverflowPolicy} decides whether the caller waits, the oldest row is dropped,
+     * or the row is appended to the local spill file.
+     */
+    public void enqueue(ExecutionLog executionLog) {
+        if (!running) {
+            writeBatch(List.of(executionLog));
+            return;
+        }
+        if (queue.offer(executionLog)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(executionLog);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(executionLog)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case SPILL -> spill(List.of(executionLog));
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    private void runFlusher() {
+        List<ExecutionLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                // Shutdown requested: fall through and drain what is left without waiting.
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            } else if (running) {
+                replaySpillFile();
+            }
+        }
+    }
+
+    /**
+     * Blocks for the first row, then keeps collecting until the batch is full or the
+     * flush interval measured from the first row has elapsed.
+     */
+    private void fillBatch(List<ExecutionLog> batch) throws InterruptedException {
+        ExecutionLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            ExecutionLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeBatch(List<ExecutionLog> batch) {
+        long start = System.nanoTime();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ExecutionLog e = batch.get(i);
+                            ps.setString(1, e.getJobName());
+                            ps.setString(2, e.getJobGroup());
+                            ps.setString(3, e.getTriggerName());
+                            ps.setString(4, e.getTriggerGroup());
+                            ps.setTimestamp(5, toTimestamp(e.getFireTime()));
+                            ps.setTimestamp(6, toTimestamp(e.getEndTime()));
+                            ps.setObject(7, e.getDuration());
+                            ps.setString(8, e.getStatus() != null ? e.getStatus().name() : null);
+                            ps.setString(9, e.getMessage());
+                            ps.setObject(10, e.getAttempt());
+                            ps.setString(11, e.getOriginFireId());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    }, keyHolder);
+            written.addAndGet(batch.size());
+            quartzMetrics.historyWritten(System.nanoTime() - start);
+        } catch (Exception e) {
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                log.warn("Failed to write {} execution logs, spilling to {}", batch.size(), spillFile, e);
+                spill(batch);
+            } else {
+                log.error("Failed to write {} execution logs", batch.size(), e);
+                dropped.addAndGet(batch.size());
+            }
+            return;
+        }
+        cacheWritten(batch, keyHolder.getKeyList());
+    }
+
+    /**
+     * Drivers return one key row per inserted row, in order; if the counts differ the
+     * rows are cached without ids rather than with the wrong ones.
+     */
+    private void cacheWritten(List<ExecutionLog> batch, List<Map<String, Object>> keys) {
+        boolean withIds = keys.size() == batch.size();
+        for (int i = 0; i < batch.size(); i++) {
+            ExecutionLog e = batch.get(i);
+            if (withIds && !keys.get(i).isEmpty()
+                    && keys.get(i).values().iterator().next() instanceof Number id) {
+                e.setId(id.longValue());
+            }
+            try {
+                recentExecutionCache.record(e);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to cache execution log of {}.{}", e.getJobGroup(), e.getJobName(), ex);
+            }
+        }
+    }
+
+    private void spill(List<ExecutionLog> logs) {
+        synchronized (spillLock) {
+            try {
+                if (spillFile.getParent() != null) {
+                    Files.createDirectories(spillFile.getParent());
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (ExecutionLog e : logs) {
+                        writer.write(SpillCodec.encode(e));
+                        writer.newLine();
+                    }
+                }
+                spilled.addAndGet(logs.size());
+            } catch (IOException e) {
+                log.error("Failed to spill {} execution logs to {}", logs.size(), spillFile, e);
+                dropped.addAndGet(logs.size());
+            }
+        }
+    }
+
+    /**
+     * Moves the spill file aside and feeds its rows back through batch inserts. Runs on
+     * the flusher thread only when the queue is idle, so replay never competes with live
+     * traffic. A replay file left by an earlier failed replay or a crash is replayed first
+     * rather than overwritten; the spill file is rotated on a later pass.
+     */
+    private void replaySpillFile() {
+        if (overflowPolicy != OverflowPolicy.SPILL) {
+            return;
+        }
+        Path replay = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        if (!Files.exists(replay)) {
+            if (!Files.exists(spillFile)) {
+                return;
+            }
+            synchronized (spillLock) {
+                try {
+                    Files.move(spillFile, replay);
+                } catch (IOException e) {
+                    log.error("Failed to rotate spill file {}", spillFile, e);
+                    return;
+                }
+            }
+        }
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replay, StandardCharsets.UTF_8)) {
+            List<ExecutionLog> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    batch.add(SpillCodec.decode(line));
+                } catch (RuntimeException e) {
+                    // Skipped rather than failing the replay, which would then be retried forever
+                    log.warn("Dropping unreadable line in spill file {}", replay, e);
+                    dropped.incrementAndGet();
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    writeBatch(batch);
+                    replayed += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                replayed += batch.size();
+            }
+            Files.delete(replay);
+            log.info("Replayed {} spilled execution logs", replayed);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to replay spill file {}", replay, e);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+
+    /**
+     * Tab-separated, backslash-escaped line format for the spill file. Kept deliberately
+     * trivial so a spill file can be inspected or loaded by hand.
+     */
+    static final class SpillCodec {
+
+        private static final String NULL = "\\N";
+
+        private SpillCodec() {
+        }
+
+        static String encode(ExecutionLog e) {
+            return String.join("\t",
+                    escape(e.getJobName()),
+                    escape(e.getJobGroup()),
+                    escape(e.getTriggerName()),
+                    escape(e.getTriggerGroup()),
+                    escape(e.getFireTime() != null ? e.getFireTime().toString() : null),
+                    escape(e.getEndTime() != null ? e.getEndTime().toString() : null),
+                    escape(e.getDuration() != null ? e.getDuration().toString() : null),
+                    escape(e.getStatus() != null ? e.getStatus().name() : null),
+                    escape(e.getMessage()),
+                    escape(e.getAttempt() != null ? e.getAttempt().toString() : null),
+                    escape(e.getOriginFireId()));
+        }
+
+        static ExecutionLog decode(String line) {
+            String[] f = line.split("\t", -1);
+            String fireTime = unescape(f[4]);
+            String endTime = unescape(f[5]);
+            String duration = unescape(f[6]);
+            String status = unescape(f[7]);
+            // Lines spilled before attempts were recorded have nine fields
+            String attempt = f.length > 9 ? unescape(f[9]) : null;
+            return ExecutionLog.builder()
+                    .jobName(unescape(f[0]))
+                    .jobGroup(unescape(f[1]))
+                    .triggerName(unescape(f[2]))
+                    .triggerGroup(unescape(f[3]))
+                    .fireTime(fireTime != null ? LocalDateTime.parse(fireTime) : null)
+                    .endTime(endTime != null ? LocalDateTime.parse(endTime) : null)
+                    .duration(duration != null ? Long.valueOf(duration) : null)
+                    .status(status != null ? ExecutionLog.ExecutionStatus.valueOf(status) : null)
+                    .message(unescape(f[8]))
+                    .attempt(attempt != null ? Integer.valueOf(attempt) : null)
+                    .originFireId(f.length > 10 ? unescape(f[10]) : null)
+                    .build();
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return NULL;
+            }
+            StringBuilder sb = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> sb.append("\\\\");
+                    case '\t' -> sb.append("\\t");
+                    case '\n' -> sb.append("\\n");
+                    case '\r' -> sb.append("\\r");
+                    default -> sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+
+        private static String unescape(String value) {
+            if (NULL.equals(value)) {
+                return null;
+            }
+            StringBuilder sb = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char next = value.charAt(++i);
+                    switch (next) {
+                        case 't' -> sb.append('\t');
+                        case 'n' -> sb.append('\n');
+                        case 'r' -> sb.append('\r');
+                        default -> sb.append(next);
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
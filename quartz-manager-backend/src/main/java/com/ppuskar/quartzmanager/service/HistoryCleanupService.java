@@ -14,35 +14,218 @@
 
 package com.ppuskar.quartzmanager.service;
 
-import com.ppuskar.quartzmanager.repository.ExecutionLogRepository;
+import com.ppuskar.quartzmanager.dto.RetentionStatus;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.ppuskar.quartzmanager.repository.ExecutionLogMaintenanceRepository;
+import com.ppuskar.quartzmanager.scheduler.MaintenanceLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Enforces execution history retention without long-running transactions.
+ *
+ * <p>In DELETE mode old rows are removed in small auto-committed batches with a pause in
+ * between, and a run stops after its time slice; whatever is left is picked up by the next
+ * run. In PARTITION mode the table is range-partitioned by day and expired days are
+ * dropped whole. Either way only one instance sharing the database cleans up at a time.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class HistoryCleanupService {
 
-    private final ExecutionLogRepository executionLogRepository;
+    private static final String CLEANUP_LOCK = "execution_history_cleanup";
+
+    public enum Mode {
+        DELETE,
+        PARTITION
+    }
+
+    private final ExecutionLogMaintenanceRepository maintenanceRepository;
+    private final MaintenanceLock maintenanceLock;
+    private final QuartzMetrics quartzMetrics;
 
     @Value("${quartz.history.retention-days:10}")
     private int retentionDays;
 
-    @Scheduled(cron = "0 0 0 * * ?") // Every day at midnight
-    @Transactional
+    @Value("${quartz.history.cleanup.mode:DELETE}")
+    private Mode mode;
+
+    @Value("${quartz.history.cleanup.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${quartz.history.cleanup.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    @Value("${quartz.history.cleanup.max-run-ms:600000}")
+    private long maxRunMs;
+
+    @Value("${quartz.history.partition.days-ahead:3}")
+    private int partitionDaysAhead;
+
+    @Value("${quartz.history.partition.auto-convert:false}")
+    private boolean autoConvert;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalDeleted = new AtomicLong();
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+    private final AtomicLong lastRunBatches = new AtomicLong();
+    private final AtomicLong lastRunDurationMs = new AtomicLong();
+    private final AtomicLong droppedPartitions = new AtomicLong();
+    private volatile String lastRunStarted;
+    private volatile String lastCutoff;
+    private volatile boolean lastRunComplete;
+
+    @Scheduled(cron = "${quartz.history.cleanup.cron:0 0 0 * * ?}") // Every day at midnight
     public void cleanupOldLogs() {
-        log.info("Starting execution history cleanup. Retention days: {}", retentionDays);
+        log.info("Starting execution history cleanup. Retention days: {}, mode: {}", retentionDays, mode);
         if (retentionDays <= 0)
             return;
+        if (!running.compareAndSet(false, true)) {
+            log.info("Previous cleanup run still in progress, skipping");
+            return;
+        }
+        try {
+            // Partition DDL must not run on several nodes at once, and parallel batched
+            // deletes would only contend for the same rows
+            long start = System.nanoTime();
+            boolean ran = maintenanceLock.runExclusively(CLEANUP_LOCK, () -> {
+                if (mode == Mode.PARTITION) {
+                    maintainPartitions();
+                } else {
+                    deleteInBatches();
+                }
+            });
+            if (ran) {
+                quartzMetrics.historyCleanupRun(System.nanoTime() - start, lastRunComplete);
+            } else {
+                log.info("Execution history cleanup is running on another instance, skipping");
+            }
+        } catch (Exception e) {
+            log.error("Execution history cleanup failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
 
+    public RetentionStatus getStatus() {
+        return RetentionStatus.builder()
+                .mode(mode.name())
+                .retentionDays(retentionDays)
+                .running(running.get())
+                .lastRunStarted(lastRunStarted)
+                .lastCutoff(lastCutoff)
+                .lastRunComplete(lastRunComplete)
+                .lastRunDeleted(lastRunDeleted.get())
+                .lastRunBatches(lastRunBatches.get())
+                .lastRunDurationMs(lastRunDurationMs.get())
+                .totalDeleted(totalDeleted.get())
+                .droppedPartitions(droppedPartitions.get())
+                .build();
+    }
+
+    private void deleteInBatches() {
         LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
-        executionLogRepository.deleteOlderThan(cutoff);
-        log.info("Cleanup completed. Deleted logs older than {}", cutoff);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxRunMs);
+        lastRunStarted = SchedulerService.DNF.format(LocalDateTime.now());
+        lastCutoff = SchedulerService.DNF.format(cutoff);
+        lastRunDeleted.set(0);
+        lastRunBatches.set(0);
+        lastRunComplete = false;
+
+        try {
+            while (true) {
+                int deleted = maintenanceRepository.deleteBatchOlderThan(cutoff, batchSize);
+                lastRunDeleted.addAndGet(deleted);
+                lastRunBatches.incrementAndGet();
+                totalDeleted.addAndGet(deleted);
+                quartzMetrics.historyCleanupDeleted(deleted);
+                if (deleted < batchSize) {
+                    lastRunComplete = true;
+                    break;
+                }
+                if (System.nanoTime() >= deadline) {
+                    log.info("Cleanup time slice used up after {} rows; continuing next run", lastRunDeleted.get());
+                    break;
+                }
+                if (lastRunBatches.get() % 50 == 0) {
+                    log.debug("Cleanup progress: {} rows in {} batches", lastRunDeleted.get(), lastRunBatches.get());
+                }
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Execution history cleanup failed", e);
+        } finally {
+            lastRunDurationMs.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        log.info("Cleanup completed. Deleted {} logs older than {} in {} batches ({} ms)",
+                lastRunDeleted.get(), cutoff, lastRunBatches.get(), lastRunDurationMs.get());
+    }
+
+    /**
+     * Keeps {@code days-ahead} future day partitions available and drops day partitions
+     * that lie entirely before the retention cutoff.
+     */
+    private void maintainPartitions() {
+        long start = System.nanoTime();
+        lastRunStarted = SchedulerService.DNF.format(LocalDateTime.now());
+        lastRunComplete = false;
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate lastDay = today.plusDays(partitionDaysAhead);
+            LocalDate cutoffDay = today.minusDays(retentionDays);
+            lastCutoff = SchedulerService.DNF.format(cutoffDay.atStartOfDay());
+
+            List<ExecutionLogMaintenanceRepository.Partition> partitions = maintenanceRepository.findPartitions();
+            if (partitions.isEmpty()) {
+                if (!autoConvert) {
+                    log.warn("execution_logs is not partitioned; set quartz.history.partition.auto-convert=true "
+                            + "or partition it manually. Falling back to batched deletes.");
+                    deleteInBatches();
+                    return;
+                }
+                log.info("Converting execution_logs to daily partitions");
+                maintenanceRepository.partitionByDay(cutoffDay, lastDay);
+                partitions = maintenanceRepository.findPartitions();
+            }
+
+            List<String> existing = partitions.stream().map(ExecutionLogMaintenanceRepository.Partition::name).toList();
+            List<LocalDate> missing = new ArrayList<>();
+            for (LocalDate day = today; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                if (!existing.contains(ExecutionLogMaintenanceRepository.partitionName(day))) {
+                    missing.add(day);
+                }
+            }
+            maintenanceRepository.addDayPartitions(missing);
+
+            // pYYYYMMDD sorts chronologically, so a string compare finds expired days
+            String cutoffName = ExecutionLogMaintenanceRepository.partitionName(cutoffDay);
+            List<String> expired = existing.stream()
+                    .filter(name -> !name.equals("pmax") && name.compareTo(cutoffName) < 0)
+                    .toList();
+            maintenanceRepository.dropPartitions(expired);
+            droppedPartitions.addAndGet(expired.size());
+            quartzMetrics.historyCleanupPartitionsDropped(expired.size());
+            lastRunComplete = true;
+            log.info("Partition maintenance completed. Added {}, dropped {}", missing.size(), expired);
+        } catch (Exception e) {
+            log.error("Execution history partition maintenance failed", e);
+        } finally {
+            lastRunDurationMs.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
     }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.dto.BatchJobResult;
+import com.ppuskar.quartzmanager.dto.BatchResponse;
+import com.ppuskar.quartzmanager.dto.JobKeyRequest;
+import com.ppuskar.quartzmanager.dto.JobRequest;
+import com.ppuskar.quartzmanager.job.HttpRequestTemplateCache;
+import com.ppuskar.quartzmanager.repository.QuartzJobStoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronExpression;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.jdbcjobstore.JobStoreSupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk job provisioning and removal. A batch is validated completely before anything is
+ * written, then applied through {@link Scheduler#scheduleJobs} / {@link Scheduler#deleteJobs}
+ * in chunks, so each chunk costs one job store transaction instead of several per job.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobBatchService {
+
+    private final Scheduler scheduler;
+    private final SchedulerService schedulerService;
+    private final QuartzJobStoreRepository quartzJobStoreRepository;
+    private final HttpRequestTemplateCache httpRequestTemplateCache;
+
+    @Value("${quartz.jobs.batch.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * @param changes fields that differ from the stored job; null if the entry was not diffed
+     */
+    private record Prepared(int index, JobDetail jobDetail, Trigger trigger, List<String> changes) {
+
+        Prepared withChanges(List<String> changes) {
+            return new Prepared(index, jobDetail, trigger, changes);
+        }
+
+        /**
+         * Triggers to store with the job; none if only the job itself changed.
+         */
+        Set<? extends Trigger> triggers() {
+            return changes != null && !JobDefinition.changesTrigger(changes) ? Set.of() : Set.of(trigger);
+        }
+    }
+
+    /**
+     * @param diff compare existing jobs with their entry and write only what changed
+     */
+    public BatchResponse scheduleJobs(List<JobRequest> requests, boolean replace, boolean diff)
+            throws SchedulerException {
+        log.info("Request to schedule {} jobs in batch (replace={}, diff={})", requests.size(), replace, diff);
+        BatchJobResult[] results = new BatchJobResult[requests.size()];
+        List<Prepared> prepared = new ArrayList<>();
+        Set<JobKey> seen = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            JobRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null) {
+                try {
+                    JobDetail jobDetail = schedulerService.buildJobDetail(request);
+                    if (!seen.add(jobDetail.getKey())) {
+                        error = "Duplicate job in batch";
+                    } else {
+                        prepared.add(new Prepared(i, jobDetail, schedulerService.buildTrigger(request, jobDetail),
+                                null));
+                    }
+                } catch (RuntimeException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                results[i] = new BatchJobResult(request.getJobGroup(), request.getJobName(),
+                        BatchJobResult.Status.INVALID, error);
+            }
+        }
+
+        Map<JobKey, JobDefinition> stored = diff && replace
+                ? schedulerService.findStoredDefinitions(prepared.stream().map(Prepared::trigger).toList())
+                : Map.of();
+        Set<JobKey> existing = diff && replace
+                ? stored.keySet()
+                : findExisting(prepared.stream().map(p -> p.jobDetail().getKey()).toList());
+        List<Prepared> toApply = new ArrayList<>();
+        List<Prepared> toReschedule = new ArrayList<>();
+        for (Prepared p : prepared) {
+            JobKey key = p.jobDetail().getKey();
+            if (!existing.contains(key)) {
+                toApply.add(p);
+            } else if (!replace) {
+                results[p.index()] = result(p, BatchJobResult.Status.FAILED, "Job already exists");
+            } else if (!diff) {
+                toApply.add(p);
+            } else {
+                List<String> changes = JobDefinition.of(p.jobDetail(), p.trigger())
+                        .changesFrom(stored.get(key), requests.get(p.index()).getStartTime() != null);
+                Prepared diffed = p.withChanges(changes);
+                if (changes.isEmpty()) {
+                    results[p.index()] = result(diffed, BatchJobResult.Status.UNCHANGED, null);
+                } else if (JobDefinition.changesJob(changes)) {
+                    toApply.add(diffed);
+                } else {
+                    toReschedule.add(diffed);
+                }
+            }
+        }
+
+        for (int start = 0; start < toApply.size(); start += chunkSize) {
+            List<Prepared> chunk = toApply.subList(start, Math.min(start + chunkSize, toApply.size()));
+            Map<JobDetail, Set<? extends Trigger>> jobsAndTriggers = new LinkedHashMap<>();
+            chunk.forEach(p -> jobsAndTriggers.put(p.jobDetail(), p.triggers()));
+            try {
+                scheduler.scheduleJobs(jobsAndTriggers, replace);
+                chunk.forEach(p -> results[p.index()] = result(p, existing.contains(p.jobDetail().getKey())
+                        ? BatchJobResult.Status.UPDATED : BatchJobResult.Status.CREATED, null));
+            } catch (SchedulerException e) {
+                // Isolate the offending entries; the rest of the chunk is still applied
+                log.warn("Batch chunk of {} jobs failed, retrying individually: {}", chunk.size(), e.getMessage());
+                for (Prepared p : chunk) {
+                    try {
+                        scheduler.scheduleJob(p.jobDetail(), p.triggers(), replace);
+                        results[p.index()] = result(p, existing.contains(p.jobDetail().getKey())
+                                ? BatchJobResult.Status.UPDATED : BatchJobResult.Status.CREATED, null);
+                    } catch (SchedulerException itemError) {
+                        results[p.index()] = result(p, BatchJobResult.Status.FAILED, itemError.getMessage());
+                    }
+                }
+            }
+        }
+        // Quartz has no bulk reschedule; these only touch the trigger rows
+        for (Prepared p : toReschedule) {
+            try {
+                schedulerService.reschedule(p.trigger());
+                results[p.index()] = result(p, BatchJobResult.Status.UPDATED, null);
+            } catch (SchedulerException e) {
+                results[p.index()] = result(p, BatchJobResult.Status.FAILED, e.getMessage());
+            }
+        }
+        toApply.forEach(p -> httpRequestTemplateCache.invalidate(p.jobDetail().getKey()));
+        if (diff && replace) {
+            log.info("Batch of {} jobs: {} written, {} rescheduled, {} unchanged", requests.size(), toApply.size(),
+                    toReschedule.size(), prepared.size() - toApply.size() - toReschedule.size());
+        }
+        return summarize(results, BatchJobResult.Status.CREATED, BatchJobResult.Status.UPDATED,
+                BatchJobResult.Status.UNCHANGED);
+    }
+
+    public BatchResponse deleteJobs(List<JobKeyRequest> requests) throws SchedulerException {
+        log.info("Request to delete {} jobs in batch", requests.size());
+        BatchJobResult[] results = new BatchJobResult[requests.size()];
+        List<JobKey> keys = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            JobKeyRequest request = requests.get(i);
+            if (request.getJobName() == null || request.getJobName().isBlank()) {
+                results[i] = new BatchJobResult(request.getJobGroup(), request.getJobName(),
+                        BatchJobResult.Status.INVALID, "Job name is required");
+            } else {
+                keys.add(new JobKey(request.getJobName(), request.getJobGroup()));
+            }
+        }
+
+        Set<JobKey> existing = findExisting(keys);
+        List<JobKey> toDelete = keys.stream().filter(existing::contains).distinct().toList();
+        Set<JobKey> failed = new HashSet<>();
+        Map<JobKey, String> errors = new LinkedHashMap<>();
+        for (int start = 0; start < toDelete.size(); start += chunkSize) {
+            List<JobKey> chunk = toDelete.subList(start, Math.min(start + chunkSize, toDelete.size()));
+            try {
+                scheduler.deleteJobs(new ArrayList<>(chunk));
+            } catch (SchedulerException e) {
+                log.warn("Batch delete chunk of {} jobs failed: {}", chunk.size(), e.getMessage());
+                failed.addAll(chunk);
+                chunk.forEach(k -> errors.put(k, e.getMessage()));
+            }
+        }
+        toDelete.forEach(httpRequestTemplateCache::invalidate);
+
+        int keyIndex = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            JobKey key = keys.get(keyIndex++);
+            BatchJobResult.Status status = !existing.contains(key) ? BatchJobResult.Status.NOT_FOUND
+                    : failed.contains(key) ? BatchJobResult.Status.FAILED
+                    : BatchJobResult.Status.DELETED;
+            results[i] = new BatchJobResult(key.getGroup(), key.getName(), status, errors.get(key));
+        }
+        return summarize(results, BatchJobResult.Status.DELETED, BatchJobResult.Status.NOT_FOUND);
+    }
+
+    private static String validate(JobRequest request) {
+        if (request.getJobName() == null || request.getJobName().isBlank()) {
+            return "Job name is required";
+        }
+        if (request.getCronExpression() == null || request.getCronExpression().isBlank()) {
+            return "Cron expression is required";
+        }
+        try {
+            CronExpression.validateExpression(request.getCronExpression());
+        } catch (ParseException e) {
+            return "Invalid cron expression: " + e.getMessage();
+        }
+        return null;
+    }
+
+    private Set<JobKey> findExisting(Collection<JobKey> keys) throws SchedulerException {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        if (JobStoreSupport.class.isAssignableFrom(scheduler.getMetaData().getJobStoreClass())) {
+            return quartzJobStoreRepository.findExistingJobKeys(scheduler.getSchedulerName(), keys);
+        }
+        Set<JobKey> existing = new HashSet<>();
+        for (JobKey key : keys) {
+            if (scheduler.checkExists(key)) {
+                existing.add(key);
+            }
+        }
+        return existing;
+    }
+
+    private static BatchJobResult result(Prepared p, BatchJobResult.Status status, String message) {
+        JobKey key = p.jobDetail().getKey();
+        return new BatchJobResult(key.getGroup(), key.getName(), status, message, p.changes());
+    }
+
+    private static BatchResponse summarize(BatchJobResult[] results, BatchJobResult.Status... successStatuses) {
+        Set<BatchJobResult.Status> success = Set.of(successStatuses);
+        int succeeded = 0;
+        for (BatchJobResult r : results) {
+            if (success.contains(r.getStatus())) {
+                succeeded++;
+            }
+        }
+        return new BatchResponse(results.length, succeeded, results.length - succeeded, List.of(results));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.scheduler.JobDataCodec;
+import org.quartz.CronTrigger;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The parts of a job and its cron trigger that a {@code JobRequest} defines, compared
+ * field by field so a resubmitted definition can be applied as a no-op, a job-only update
+ * or a trigger-only reschedule. Trigger fields are null when the job has no such trigger.
+ */
+record JobDefinition(String description, String jobClass, Map<String, Object> jobData,
+                     String cronExpression, String timeZone, Long startTime, Long endTime,
+                     Integer misfireInstruction, Integer priority) {
+
+    /**
+     * Changes written with the job row; every other change replaces the trigger.
+     */
+    static final Set<String> JOB_FIELDS = Set.of("description", "jobClass", "jobDataMap");
+
+    JobDefinition {
+        // Compare data as the job store reads it back: string values, nulls as empty strings
+        jobData = JobDataCodec.toJobDataMap(jobData).getWrappedMap();
+        // Cron triggers stored with the smart policy fire once now on misfire, which new
+        // requests spell out explicitly
+        if (cronExpression != null && misfireInstruction != null
+                && misfireInstruction == Trigger.MISFIRE_INSTRUCTION_SMART_POLICY) {
+            misfireInstruction = CronTrigger.MISFIRE_INSTRUCTION_FIRE_ONCE_NOW;
+        }
+    }
+
+    /**
+     * @param trigger the job's cron trigger; null if it has none
+     */
+    static JobDefinition of(JobDetail jobDetail, Trigger trigger) {
+        CronTrigger cronTrigger = trigger instanceof CronTrigger c ? c : null;
+        return new JobDefinition(jobDetail.getDescription(), jobDetail.getJobClass().getName(),
+                jobDetail.getJobDataMap(),
+                cronTrigger != null ? cronTrigger.getCronExpression() : null,
+                cronTrigger != null ? cronTrigger.getTimeZone().getID() : null,
+                trigger != null ? trigger.getStartTime().getTime() : null,
+                trigger != null && trigger.getEndTime() != null ? trigger.getEndTime().getTime() : null,
+                trigger != null ? trigger.getMisfireInstruction() : null,
+                trigger != null ? trigger.getPriority() : null);
+    }
+
+    /**
+     * Names of the fields, as in {@code JobRequest}, in which this definition differs from
+     * the stored one.
+     *
+     * @param compareStartTime false if the request did not set a start time, so the stored
+     *                         one is kept rather than reset to now
+     */
+    List<String> changesFrom(JobDefinition stored, boolean compareStartTime) {
+        List<String> changes = new ArrayList<>();
+        compare(changes, "description", description, stored.description);
+        compare(changes, "jobClass", jobClass, stored.jobClass);
+        compare(changes, "jobDataMap", jobData, stored.jobData);
+        compare(changes, "cronExpression", cronExpression, stored.cronExpression);
+        compare(changes, "timeZone", timeZone, stored.timeZone);
+        if (compareStartTime || stored.startTime == null) {
+            compare(changes, "startTime", startTime, stored.startTime);
+        }
+        compare(changes, "endTime", endTime, stored.endTime);
+        compare(changes, "misfirePolicy", misfireInstruction, stored.misfireInstruction);
+        compare(changes, "priority", priority, stored.priority);
+        return changes;
+    }
+
+    static boolean changesJob(List<String> changes) {
+        return changes.stream().anyMatch(JOB_FIELDS::contains);
+    }
+
+    static boolean changesTrigger(List<String> changes) {
+        return changes.stream().anyMatch(change -> !JOB_FIELDS.contains(change));
+    }
+
+    private static void compare(List<String> changes, String field, Object requested, Object stored) {
+        if (!Objects.equals(requested, stored)) {
+            changes.add(field);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.dto.JobLatencyChange;
+import com.ppuskar.quartzmanager.dto.JobStats;
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import com.ppuskar.quartzmanager.entity.JobStatsRollup;
+import com.ppuskar.quartzmanager.repository.JobStatsRepository;
+import com.ppuskar.quartzmanager.scheduler.MaintenanceLock;
+import com.ppuskar.quartzmanager.stats.JobStatsAccumulator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incremental per-job statistics. Executions are folded into open minute buckets in
+ * memory; closed minutes are flushed to {@code job_stats_rollups}, and minute rows older
+ * than the compaction delay are merged into hour rows. Queries merge persisted rows with
+ * the still-open buckets, so no request ever scans {@code execution_logs}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobStatsService {
+
+    private static final String COMPACTION_LOCK = "job_stats_compaction";
+
+    private final JobStatsRepository jobStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MaintenanceLock maintenanceLock;
+
+    @Value("${quartz.stats.compact-after-hours:2}")
+    private int compactAfterHours;
+
+    @Value("${quartz.stats.retention-days:30}")
+    private int retentionDays;
+
+    private final Map<BucketKey, JobStatsAccumulator> openBuckets = new ConcurrentHashMap<>();
+
+    private record BucketKey(JobKey jobKey, LocalDateTime minute) {
+    }
+
+    public void record(JobKey jobKey, LocalDateTime fireTime, ExecutionLog.ExecutionStatus status, long durationMillis) {
+        // Recorded inside compute so flush cannot take the bucket between lookup and record
+        openBuckets.compute(new BucketKey(jobKey, fireTime.truncatedTo(ChronoUnit.MINUTES)), (k, acc) -> {
+            JobStatsAccumulator bucket = acc != null ? acc : new JobStatsAccumulator();
+            bucket.record(status, durationMillis);
+            return bucket;
+        });
+    }
+
+    public JobStats getJobStats(JobKey jobKey, int minutes) {
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusMinutes(minutes);
+        JobStatsAccumulator total = jobStatsRepository.aggregateJob(jobKey, from, to);
+        openBuckets.forEach((key, acc) -> {
+            if (key.jobKey().equals(jobKey) && !key.minute().isBefore(from)) {
+                total.merge(acc);
+            }
+        });
+        return toDto(jobKey, from, to, total);
+    }
+
+    /**
+     * Per-job statistics over the window, ordered by the given metric (descending).
+     */
+    public List<JobStats> getAllJobStats(int minutes, String sortBy, int limit) {
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusMinutes(minutes);
+        Map<JobKey, JobStatsAccumulator> totals = aggregateWindow(from, to);
+        Comparator<JobStats> order = switch (sortBy != null ? sortBy : "") {
+            case "p50" -> Comparator.comparingLong(JobStats::getP50Duration);
+            case "p99" -> Comparator.comparingLong(JobStats::getP99Duration);
+            case "max" -> Comparator.comparingLong(JobStats::getMaxDuration);
+            case "failures" -> Comparator.comparingLong(JobStats::getFailureCount);
+            case "executions" -> Comparator.comparingLong(s -> s.getSuccessCount() + s.getFailureCount());
+            default -> Comparator.comparingLong(JobStats::getP95Duration);
+        };
+        return totals.entrySet().stream()
+                .map(e -> toDto(e.getKey(), from, to, e.getValue()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Jobs whose p95 latency in the last window grew the most compared to the window
+     * before it. Jobs with fewer than {@code minExecutions} runs in either window are
+     * ignored to keep the ratios meaningful.
+     */
+    public List<JobLatencyChange> getLatencyRegressions(int minutes, int minExecutions, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime mid = now.minusMinutes(minutes);
+        Map<JobKey, JobStatsAccumulator> current = aggregateWindow(mid, now);
+        Map<JobKey, JobStatsAccumulator> previous = jobStatsRepository.aggregateAll(mid.minusMinutes(minutes), mid);
+
+        List<JobLatencyChange> changes = new ArrayList<>();
+        current.forEach((jobKey, cur) -> {
+            JobStatsAccumulator prev = previous.get(jobKey);
+            if (prev == null || cur.getExecutedCount() < minExecutions || prev.getExecutedCount() < minExecutions) {
+                return;
+            }
+            long prevP95 = prev.percentile(0.95);
+            long curP95 = cur.percentile(0.95);
+            changes.add(JobLatencyChange.builder()
+                    .jobName(jobKey.getName())
+                    .jobGroup(jobKey.getGroup())
+                    .previousP95Duration(prevP95)
+                    .currentP95Duration(curP95)
+                    .ratio((double) Math.max(curP95, 1) / Math.max(prevP95, 1))
+                    .currentExecutions(cur.getExecutedCount())
+                    .build());
+        });
+        changes.sort(Comparator.comparingDouble(JobLatencyChange::getRatio).reversed());
+        return changes.stream().limit(limit).toList();
+    }
+
+    /**
+     * Writes every closed minute bucket as a MINUTE rollup row. Runs a few seconds after
+     * each minute boundary so late async completions still land in their own minute.
+     */
+    @Scheduled(cron = "${quartz.stats.flush-cron:5 * * * * *}")
+    public void flushClosedBuckets() {
+        flush(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Merges MINUTE rows older than the compaction delay into HOUR rows, one hour at a
+     * time, and trims rollups past retention. Runs on one instance at a time: rollup rows
+     * are additive, so two nodes folding the same minutes would count them twice.
+     */
+    @Scheduled(cron = "${quartz.stats.compact-cron:30 2 * * * *}")
+    public void compact() {
+        try {
+            maintenanceLock.runExclusively(COMPACTION_LOCK, this::compactHours);
+        } catch (Exception e) {
+            log.error("Failed to compact job statistics", e);
+        }
+    }
+
+    private void compactHours() {
+        LocalDateTime limit = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(compactAfterHours);
+        LocalDateTime hour = jobStatsRepository.findOldestMinuteBucket();
+        while (hour != null && hour.isBefore(limit)) {
+            LocalDateTime hourStart = hour;
+            int rows = transactionTemplate.execute(status -> {
+                List<JobStatsRepository.Bucket> hourly = jobStatsRepository.compactHour(hourStart);
+                jobStatsRepository.insert(JobStatsRollup.Granularity.HOUR, hourly);
+                return jobStatsRepository.deleteMinuteRows(hourStart);
+            });
+            log.debug("Compacted {} minute stats rows for hour {}", rows, hourStart);
+            hour = hour.plusHours(1);
+        }
+        if (retentionDays > 0) {
+            jobStatsRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Persist the open minute too so a restart does not lose it
+        flush(LocalDateTime.MAX);
+    }
+
+    private void flush(LocalDateTime before) {
+        List<JobStatsRepository.Bucket> closed = new ArrayList<>();
+        for (BucketKey key : openBuckets.keySet()) {
+            if (key.minute().isBefore(before)) {
+                openBuckets.computeIfPresent(key, (k, acc) -> {
+                    closed.add(new JobStatsRepository.Bucket(k.jobKey(), k.minute(), acc));
+                    return null;
+                });
+            }
+        }
+        if (closed.isEmpty()) {
+            return;
+        }
+        try {
+            // One transaction, so a failed flush leaves no rows behind and can be retried whole
+            transactionTemplate.executeWithoutResult(status ->
+                    jobStatsRepository.insert(JobStatsRollup.Granularity.MINUTE, closed));
+            log.debug("Flushed {} job stats buckets", closed.size());
+        } catch (Exception e) {
+            log.error("Failed to flush {} job stats buckets, keeping them for the next flush", closed.size(), e);
+            for (JobStatsRepository.Bucket bucket : closed) {
+                openBuckets.merge(new BucketKey(bucket.jobKey(), bucket.bucketStart()), bucket.stats(),
+                        (current, failed) -> {
+                            current.merge(failed);
+                            return current;
+                        });
+            }
+        }
+    }
+
+    private Map<JobKey, JobStatsAccumulator> aggregateWindow(LocalDateTime from, LocalDateTime to) {
+        Map<JobKey, JobStatsAccumulator> totals = jobStatsRepository.aggregateAll(from, to);
+        openBuckets.forEach((key, acc) -> {
+            if (!key.minute().isBefore(from)) {
+                totals.computeIfAbsent(key.jobKey(), k -> new JobStatsAccumulator()).merge(acc);
+            }
+        });
+        return totals;
+    }
+
+    private static JobStats toDto(JobKey jobKey, LocalDateTime from, LocalDateTime to, JobStatsAccumulator acc) {
+        long executed = acc.getExecutedCount();
+        return JobStats.builder()
+                .jobName(jobKey.getName())
+                .jobGroup(jobKey.getGroup())
+                .from(SchedulerService.DNF.format(from))
+                .to(SchedulerService.DNF.format(to))
+                .successCount(acc.getSuccessCount())
+                .failureCount(acc.getFailureCount())
+                .vetoCount(acc.getVetoCount())
+                .successRate(executed > 0 ? (double) acc.getSuccessCount() / executed : 0)
+                .avgDuration(executed > 0 ? acc.getTotalDuration() / executed : 0)
+                .p50Duration(acc.percentile(0.50))
+                .p95Duration(acc.percentile(0.95))
+                .p99Duration(acc.percentile(0.99))
+                .maxDuration(acc.getMaxDuration())
+                .build();
+    }
+}
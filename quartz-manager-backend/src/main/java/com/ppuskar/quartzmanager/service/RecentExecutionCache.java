@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+import com.ppuskar.quartzmanager.stats.RecentExecutions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * The latest executions of recently active or viewed jobs, fed by the history writer as
+ * executions are persisted, so the history view of a job is answered without a query.
+ * Jobs are evicted least recently used first once {@code quartz.history.recent.max-jobs}
+ * are held. Entries keep their ids; messages are cut to
+ * {@code quartz.history.recent.max-message-length} characters, and {@link #summarize}
+ * cuts rows read from the database the same way.
+ * <p>
+ * The first read of a job merges its persisted history in once; reads for more than
+ * {@code quartz.history.recent.size} executions always go to the database. In a cluster
+ * other nodes record executions this node never sees, so the cache is bypassed there.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecentExecutionCache {
+
+    private final Scheduler scheduler;
+
+    @Value("${quartz.history.recent.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quartz.history.recent.size:20}")
+    private int size;
+
+    @Value("${quartz.history.recent.max-jobs:50000}")
+    private int maxJobs;
+
+    @Value("${quartz.history.recent.max-message-length:256}")
+    private int maxMessageLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private Map<JobKey, RecentExecutions> jobs;
+
+    @PostConstruct
+    void init() throws SchedulerException {
+        if (enabled && scheduler.getMetaData().isJobStoreClustered()) {
+            log.info("Recent execution cache disabled: clustered job store");
+            enabled = false;
+        }
+        jobs = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<JobKey, RecentExecutions> eldest) {
+                return size() > maxJobs;
+            }
+        };
+    }
+
+    public void record(ExecutionLog execution) {
+        if (!enabled) {
+            return;
+        }
+        entry(new JobKey(execution.getJobName(), execution.getJobGroup())).add(execution);
+    }
+
+    /**
+     * @param loader reads the given number of newest executions from the database
+     * @return the newest {@code limit} executions, or null if they have to be read from
+     * the database
+     */
+    public List<ExecutionLog> latest(JobKey jobKey, int limit, IntFunction<List<ExecutionLog>> loader) {
+        if (!enabled || limit > size) {
+            return null;
+        }
+        RecentExecutions recent = entry(jobKey);
+        if (recent.covers(limit)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // Loaded outside the lock; executions recorded meanwhile are already held and skipped
+            recent.seed(loader.apply(size));
+        }
+        return recent.latest(jobKey.getGroup(), jobKey.getName(), limit);
+    }
+
+    /**
+     * Cuts the messages of executions read from the database the way cached entries are
+     * cut, so the history view looks the same whether or not the cache answered it.
+     */
+    public List<ExecutionLog> summarize(List<ExecutionLog> executions) {
+        for (ExecutionLog execution : executions) {
+            execution.setMessage(RecentExecutions.summarize(execution.getMessage(), maxMessageLength));
+        }
+        return executions;
+    }
+
+    private RecentExecutions entry(JobKey jobKey) {
+        synchronized (jobs) {
+            return jobs.computeIfAbsent(jobKey, k -> new RecentExecutions(size, maxMessageLength));
+        }
+    }
+
+    public int getJobCount() {
+        synchronized (jobs) {
+            return jobs.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
@@ -14,19 +14,31 @@
 
 package com.ppuskar.quartzmanager.service;
 
+import com.ppuskar.quartzmanager.dto.BatchJobResult;
 import com.ppuskar.quartzmanager.dto.JobRequest;
+import com.ppuskar.quartzmanager.dto.SpreadPreview;
 import com.ppuskar.quartzmanager.dto.TriggerInfo;
+import com.ppuskar.quartzmanager.dto.TriggerPage;
+import com.ppuskar.quartzmanager.dto.TriggerQuery;
 import com.ppuskar.quartzmanager.job.HttpJob;
+import com.ppuskar.quartzmanager.job.HttpRequestTemplateCache;
+import com.ppuskar.quartzmanager.repository.QuartzJobStoreRepository;
+import com.ppuskar.quartzmanager.scheduler.CronSpreader;
+import com.ppuskar.quartzmanager.scheduler.ExecutionLanes;
+import com.ppuskar.quartzmanager.scheduler.JobDataCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
+import org.quartz.impl.jdbcjobstore.JobStoreSupport;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,15 +46,112 @@ import java.util.*;
 public class SchedulerService {
 
     private final Scheduler scheduler;
-    private static final DateTimeFormatter DNF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+    private final QuartzJobStoreRepository quartzJobStoreRepository;
+    private final HttpRequestTemplateCache httpRequestTemplateCache;
+    private final CronSpreader cronSpreader;
+    private final ExecutionLanes executionLanes;
+    public static final DateTimeFormatter DNF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
             .withZone(ZoneId.systemDefault());
 
-    public void scheduleJob(JobRequest jobRequest) throws SchedulerException {
+    @Value("${quartz.misfire.default-policy:FIRE_ONCE}")
+    private JobRequest.MisfirePolicy defaultMisfirePolicy;
+
+    /**
+     * Creates or replaces a job. With {@code diff} an existing job is compared with the
+     * request first: an identical definition is not written at all, a change to the job
+     * only rewrites the job, and a change to the schedule only reschedules its trigger.
+     */
+    public BatchJobResult scheduleJob(JobRequest jobRequest, boolean diff) throws SchedulerException {
         log.info("Request to schedule job: {}/{}", jobRequest.getJobGroup(), jobRequest.getJobName());
 
-        JobDataMap jobDataMap = new JobDataMap();
-        if (jobRequest.getJobDataMap() != null) {
-            jobDataMap.putAll(jobRequest.getJobDataMap());
+        JobDetail jobDetail = buildJobDetail(jobRequest);
+        Trigger trigger = buildTrigger(jobRequest, jobDetail);
+        JobKey jobKey = jobDetail.getKey();
+
+        if (diff) {
+            JobDefinition stored = findStoredDefinitions(List.of(trigger)).get(jobKey);
+            if (stored != null) {
+                List<String> changes = JobDefinition.of(jobDetail, trigger)
+                        .changesFrom(stored, jobRequest.getStartTime() != null);
+                applyChanges(jobDetail, trigger, changes);
+                return new BatchJobResult(jobKey.getGroup(), jobKey.getName(), changes.isEmpty()
+                        ? BatchJobResult.Status.UNCHANGED : BatchJobResult.Status.UPDATED, null, changes);
+            }
+        }
+
+        boolean exists = scheduler.checkExists(jobKey);
+        if (exists) {
+            log.info("Updating existing job: {}/{}", jobRequest.getJobGroup(), jobRequest.getJobName());
+            Set<Trigger> triggers = new HashSet<>();
+            triggers.add(trigger);
+            scheduler.scheduleJob(jobDetail, triggers, true);
+        } else {
+            log.info("Creating new job: {}/{}", jobRequest.getJobGroup(), jobRequest.getJobName());
+            scheduler.scheduleJob(jobDetail, trigger);
+        }
+        httpRequestTemplateCache.invalidate(jobKey);
+        return new BatchJobResult(jobKey.getGroup(), jobKey.getName(),
+                exists ? BatchJobResult.Status.UPDATED : BatchJobResult.Status.CREATED, null);
+    }
+
+    /**
+     * Writes only the parts of an existing job that changed.
+     */
+    void applyChanges(JobDetail jobDetail, Trigger trigger, List<String> changes) throws SchedulerException {
+        JobKey jobKey = jobDetail.getKey();
+        boolean jobChanged = JobDefinition.changesJob(changes);
+        boolean triggerChanged = JobDefinition.changesTrigger(changes);
+        if (jobChanged && triggerChanged) {
+            scheduler.scheduleJob(jobDetail, Set.of(trigger), true);
+        } else if (jobChanged) {
+            scheduler.addJob(jobDetail, true);
+        } else if (triggerChanged) {
+            reschedule(trigger);
+        } else {
+            log.debug("Job {} unchanged, nothing written", jobKey);
+            return;
+        }
+        log.info("Updated job {}: {} changed", jobKey, changes);
+        httpRequestTemplateCache.invalidate(jobKey);
+    }
+
+    /**
+     * Replaces the job's trigger, or adds it if the job has lost it.
+     */
+    void reschedule(Trigger trigger) throws SchedulerException {
+        if (scheduler.rescheduleJob(trigger.getKey(), trigger) == null) {
+            scheduler.scheduleJob(trigger);
+        }
+    }
+
+    /**
+     * Stored definitions of the jobs of the given triggers, keyed by job. With a JDBC job
+     * store they are read in bulk; missing jobs are absent from the result.
+     */
+    Map<JobKey, JobDefinition> findStoredDefinitions(Collection<? extends Trigger> triggers) throws SchedulerException {
+        Map<JobKey, TriggerKey> triggerKeys = new HashMap<>();
+        triggers.forEach(t -> triggerKeys.put(t.getJobKey(), t.getKey()));
+        Map<JobKey, JobDefinition> definitions = new HashMap<>();
+        if (JobStoreSupport.class.isAssignableFrom(scheduler.getMetaData().getJobStoreClass())) {
+            quartzJobStoreRepository.findJobDefinitions(scheduler.getSchedulerName(), triggerKeys)
+                    .forEach((jobKey, row) -> definitions.put(jobKey, new JobDefinition(row.description(),
+                            row.jobClass(), row.jobData(), row.cronExpression(), row.timeZone(), row.startTime(),
+                            row.endTime(), row.misfireInstruction(), row.priority())));
+            return definitions;
+        }
+        for (Map.Entry<JobKey, TriggerKey> entry : triggerKeys.entrySet()) {
+            JobDetail jobDetail = scheduler.getJobDetail(entry.getKey());
+            if (jobDetail != null) {
+                definitions.put(entry.getKey(), JobDefinition.of(jobDetail, scheduler.getTrigger(entry.getValue())));
+            }
+        }
+        return definitions;
+    }
+
+    JobDetail buildJobDetail(JobRequest jobRequest) {
+        JobDataMap jobDataMap = JobDataCodec.toJobDataMap(jobRequest.getJobDataMap());
+        if (jobRequest.getLane() != null && !jobRequest.getLane().isBlank()) {
+            jobDataMap.put(ExecutionLanes.LANE, jobRequest.getLane());
         }
 
         JobDetail jobDetail = JobBuilder.newJob(HttpJob.class)
@@ -51,11 +160,22 @@ public class SchedulerService {
                 .usingJobData(jobDataMap)
                 .storeDurably()
                 .build();
+        httpRequestTemplateCache.validate(jobDetail.getKey(), jobDetail.getJobDataMap());
+        return jobDetail;
+    }
 
+    Trigger buildTrigger(JobRequest jobRequest, JobDetail jobDetail) {
+        JobKey jobKey = jobDetail.getKey();
+        String cronExpression = cronSpreader.spread(jobKey, jobRequest.getCronExpression(),
+                cronSpreader.windowFor(jobKey, jobRequest.getSpreadWindowSeconds()));
+        int priority = jobRequest.getPriority() != null ? jobRequest.getPriority()
+                : executionLanes.priorityFor(executionLanes.laneFor(jobKey.getGroup(), jobDetail.getJobDataMap()));
         TriggerBuilder<CronTrigger> triggerBuilder = TriggerBuilder.newTrigger()
                 .withIdentity(jobRequest.getJobName() + "_trigger", jobRequest.getJobGroup())
                 .forJob(jobDetail)
-                .withSchedule(CronScheduleBuilder.cronSchedule(jobRequest.getCronExpression()));
+                .withPriority(priority)
+                .withSchedule(withMisfirePolicy(CronScheduleBuilder.cronSchedule(cronExpression),
+                        jobRequest.getMisfirePolicy() != null ? jobRequest.getMisfirePolicy() : defaultMisfirePolicy));
 
         if (jobRequest.getStartTime() != null) {
             triggerBuilder.startAt(Date.from(Instant.ofEpochMilli(jobRequest.getStartTime())));
@@ -66,23 +186,66 @@ public class SchedulerService {
         if (jobRequest.getEndTime() != null) {
             triggerBuilder.endAt(Date.from(Instant.ofEpochMilli(jobRequest.getEndTime())));
         }
+        return triggerBuilder.build();
+    }
 
-        if (scheduler.checkExists(jobDetail.getKey())) {
-            log.info("Updating existing job: {}/{}", jobRequest.getJobGroup(), jobRequest.getJobName());
-            Set<Trigger> triggers = new HashSet<>();
-            triggers.add(triggerBuilder.build());
-            scheduler.scheduleJob(jobDetail, triggers, true);
-        } else {
-            log.info("Creating new job: {}/{}", jobRequest.getJobGroup(), jobRequest.getJobName());
-            scheduler.scheduleJob(jobDetail, triggerBuilder.build());
-        }
+    private static CronScheduleBuilder withMisfirePolicy(CronScheduleBuilder schedule, JobRequest.MisfirePolicy policy) {
+        return switch (policy) {
+            case SKIP -> schedule.withMisfireHandlingInstructionDoNothing();
+            case FIRE_ONCE -> schedule.withMisfireHandlingInstructionFireAndProceed();
+            case FIRE_ALL -> schedule.withMisfireHandlingInstructionIgnoreMisfires();
+        };
     }
 
     public List<TriggerInfo> getAllTriggers() throws SchedulerException {
-        log.debug("Fetching all job triggers");
+        return findTriggers(TriggerQuery.builder().build()).getItems();
+    }
+
+    /**
+     * Lists triggers with optional group/state filtering, sorting and paging. With a JDBC
+     * job store this is two set-based queries regardless of the number of jobs; other job
+     * stores fall back to walking the scheduler API.
+     */
+    public TriggerPage findTriggers(TriggerQuery query) throws SchedulerException {
+        log.debug("Fetching job triggers: {}", query);
+        if (!JobStoreSupport.class.isAssignableFrom(scheduler.getMetaData().getJobStoreClass())) {
+            return findTriggersViaScheduler(query);
+        }
+
+        String schedulerName = scheduler.getSchedulerName();
+        List<TriggerInfo> items = quartzJobStoreRepository.findTriggers(schedulerName, query).stream()
+                .map(row -> TriggerInfo.builder()
+                        .jobName(row.jobName())
+                        .jobGroup(row.jobGroup())
+                        .triggerName(row.triggerName())
+                        .triggerGroup(row.triggerGroup())
+                        .description(row.description())
+                        .cronExpression(row.cronExpression() != null ? row.cronExpression() : "")
+                        .lastExecutionTime(row.prevFireTime() != null
+                                ? DNF.format(Instant.ofEpochMilli(row.prevFireTime()))
+                                : "Never")
+                        .nextExecutionTime(row.nextFireTime() != null
+                                ? DNF.format(Instant.ofEpochMilli(row.nextFireTime()))
+                                : "Completed")
+                        .lastFireTime(row.prevFireTime())
+                        .nextFireTime(row.nextFireTime())
+                        .jobDataMap(row.jobData())
+                        .state(row.state())
+                        .build())
+                .toList();
+        long total = query.getPage() != null
+                ? quartzJobStoreRepository.countTriggers(schedulerName, query)
+                : items.size();
+        return new TriggerPage(items, total);
+    }
+
+    private TriggerPage findTriggersViaScheduler(TriggerQuery query) throws SchedulerException {
         List<TriggerInfo> triggerInfoList = new ArrayList<>();
 
-        for (String groupName : scheduler.getJobGroupNames()) {
+        List<String> groupNames = query.getGroup() != null && !query.getGroup().isBlank()
+                ? List.of(query.getGroup())
+                : scheduler.getJobGroupNames();
+        for (String groupName : groupNames) {
             for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(groupName))) {
                 JobDetail jobDetail = scheduler.getJobDetail(jobKey);
                 List<? extends Trigger> triggers = scheduler.getTriggersOfJob(jobKey);
@@ -108,13 +271,75 @@ public class SchedulerService {
                             .nextExecutionTime(trigger.getNextFireTime() != null
                                     ? DNF.format(trigger.getNextFireTime().toInstant())
                                     : "Completed")
+                            .lastFireTime(trigger.getPreviousFireTime() != null
+                                    ? trigger.getPreviousFireTime().getTime() : null)
+                            .nextFireTime(trigger.getNextFireTime() != null
+                                    ? trigger.getNextFireTime().getTime() : null)
                             .jobDataMap(jobDetail.getJobDataMap().getWrappedMap())
                             .state(triggerState.name())
                             .build());
                 }
             }
         }
-        return triggerInfoList;
+
+        return applyQuery(triggerInfoList, query);
+    }
+
+    /**
+     * Filters, sorts and pages an in-memory trigger list with the same semantics as the
+     * job store queries.
+     */
+    static TriggerPage applyQuery(Collection<TriggerInfo> triggers, TriggerQuery query) {
+        Stream<TriggerInfo> matches = triggers.stream();
+        if (query.getGroup() != null && !query.getGroup().isBlank()) {
+            matches = matches.filter(t -> query.getGroup().equals(t.getJobGroup()));
+        }
+        if (query.getJobName() != null) {
+            matches = matches.filter(t -> query.getJobName().equals(t.getJobName()));
+        }
+        if (query.getState() != null && !query.getState().isBlank()) {
+            String state = Trigger.TriggerState.valueOf(query.getState().toUpperCase()).name();
+            matches = matches.filter(t -> state.equals(t.getState()));
+        }
+
+        Comparator<TriggerInfo> comparator = switch (query.getSort() != null ? query.getSort() : "") {
+            case "jobName" -> Comparator.comparing(TriggerInfo::getJobName);
+            case "triggerName" -> Comparator.comparing(TriggerInfo::getTriggerName);
+            case "state" -> Comparator.comparing(TriggerInfo::getState);
+            // Epoch values with nulls first, as the job store orders NEXT_FIRE_TIME / PREV_FIRE_TIME
+            case "nextExecutionTime" -> Comparator.comparing(TriggerInfo::getNextFireTime,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "lastExecutionTime" -> Comparator.comparing(TriggerInfo::getLastFireTime,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> Comparator.comparing(TriggerInfo::getJobGroup);
+        };
+        if (query.isDescending()) {
+            comparator = comparator.reversed();
+        }
+        comparator = comparator.thenComparing(TriggerInfo::getJobGroup)
+                .thenComparing(TriggerInfo::getJobName)
+                .thenComparing(TriggerInfo::getTriggerGroup)
+                .thenComparing(TriggerInfo::getTriggerName);
+
+        List<TriggerInfo> sorted = matches.sorted(comparator).toList();
+        if (query.getPage() == null) {
+            return new TriggerPage(sorted, sorted.size());
+        }
+        List<TriggerInfo> page = sorted.stream()
+                .skip(query.getPage().longValue() * query.getSize())
+                .limit(query.getSize())
+                .toList();
+        return new TriggerPage(page, sorted.size());
+    }
+
+    /**
+     * Fire load of the group's cron jobs (all jobs if group is null) as scheduled now and
+     * with spreading applied.
+     */
+    public SpreadPreview previewSpread(String group, Integer windowSeconds, int horizonMinutes, int bucketSeconds)
+            throws SchedulerException {
+        List<TriggerInfo> triggers = findTriggers(TriggerQuery.builder().group(group).build()).getItems();
+        return cronSpreader.preview(group, triggers, windowSeconds, horizonMinutes, bucketSeconds);
     }
 
     public List<String> getAllJobGroups() throws SchedulerException {
@@ -125,6 +350,8 @@ public class SchedulerService {
 
     public void deleteJob(String group, String name) throws SchedulerException {
         log.info("Deleting job: {}/{}", group, name);
-        scheduler.deleteJob(new JobKey(name, group));
+        JobKey jobKey = new JobKey(name, group);
+        scheduler.deleteJob(jobKey);
+        httpRequestTemplateCache.invalidate(jobKey);
     }
 }
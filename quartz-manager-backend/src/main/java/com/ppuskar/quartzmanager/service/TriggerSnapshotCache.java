@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.service;
+
+import com.ppuskar.quartzmanager.dto.TriggerInfo;
+import com.ppuskar.quartzmanager.dto.TriggerPage;
+import com.ppuskar.quartzmanager.dto.TriggerQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory snapshot of every {@link TriggerInfo}, kept current by Quartz scheduler and
+ * trigger events and reconciled against the job store on a fixed interval (which also
+ * picks up changes made by other cluster nodes). The version changes whenever the content
+ * does, so {@code /api/jobs} can answer repeat polls with {@code 304 Not Modified}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TriggerSnapshotCache {
+
+    private final SchedulerService schedulerService;
+
+    @Value("${quartz.jobs.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quartz.jobs.cache.max-incremental-jobs:200}")
+    private int maxIncrementalJobs;
+
+    private final Map<TriggerKey, TriggerInfo> triggers = new ConcurrentHashMap<>();
+    private final Set<JobKey> dirtyJobs = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullReloadRequested = new AtomicBoolean();
+    private final AtomicLong version = new AtomicLong();
+    // Versions restart at 0 in every process; the epoch keeps them from matching across restarts and nodes
+    private final String epoch = UUID.randomUUID().toString();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Strong ETag of the current content; only ever equal for content served by this
+     * process.
+     */
+    public String getETag() {
+        return "\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * Answers a job listing query from the snapshot.
+     */
+    public TriggerPage query(TriggerQuery query) {
+        return SchedulerService.applyQuery(triggers.values(), query);
+    }
+
+    /**
+     * Applies a fire or completion in place. The trigger instance passed to listeners
+     * already carries the updated previous/next fire times, so no job store read is needed.
+     */
+    public void applyFire(Trigger trigger) {
+        if (!enabled) {
+            return;
+        }
+        TriggerInfo current = triggers.get(trigger.getKey());
+        if (current == null) {
+            markJobDirty(trigger.getJobKey());
+            return;
+        }
+        TriggerInfo updated = current.toBuilder()
+                .lastExecutionTime(trigger.getPreviousFireTime() != null
+                        ? SchedulerService.DNF.format(trigger.getPreviousFireTime().toInstant())
+                        : "Never")
+                .nextExecutionTime(trigger.getNextFireTime() != null
+                        ? SchedulerService.DNF.format(trigger.getNextFireTime().toInstant())
+                        : "Completed")
+                .lastFireTime(trigger.getPreviousFireTime() != null ? trigger.getPreviousFireTime().getTime() : null)
+                .nextFireTime(trigger.getNextFireTime() != null ? trigger.getNextFireTime().getTime() : null)
+                .build();
+        if (!updated.equals(current)) {
+            triggers.put(trigger.getKey(), updated);
+            version.incrementAndGet();
+        }
+    }
+
+    public void markJobDirty(JobKey jobKey) {
+        if (enabled) {
+            dirtyJobs.add(jobKey);
+        }
+    }
+
+    public void markTriggerDirty(TriggerKey triggerKey) {
+        TriggerInfo current = triggers.get(triggerKey);
+        if (current != null) {
+            markJobDirty(new JobKey(current.getJobName(), current.getJobGroup()));
+        } else {
+            requestFullReload();
+        }
+    }
+
+    public void removeJob(JobKey jobKey) {
+        if (triggers.values().removeIf(t -> t.getJobName().equals(jobKey.getName())
+                && t.getJobGroup().equals(jobKey.getGroup()))) {
+            version.incrementAndGet();
+        }
+    }
+
+    public void removeTrigger(TriggerKey triggerKey) {
+        if (triggers.remove(triggerKey) != null) {
+            version.incrementAndGet();
+        }
+    }
+
+    public void requestFullReload() {
+        if (enabled) {
+            fullReloadRequested.set(true);
+        }
+    }
+
+    /**
+     * Applies pending job changes before a read. Scheduler events reach the cache inside
+     * the call that made the change, so a listing requested right after a write through
+     * this instance already reflects it instead of waiting for the next refresh.
+     */
+    public void refreshPending() {
+        if (!dirtyJobs.isEmpty() || fullReloadRequested.get()) {
+            refreshDirty();
+        }
+    }
+
+    /**
+     * Reloads jobs touched by structural events (added, deleted, paused, resumed). Large
+     * bursts collapse into one full reload instead of many per-job queries.
+     */
+    @Scheduled(fixedDelayString = "${quartz.jobs.cache.refresh-interval-ms:500}")
+    public synchronized void refreshDirty() {
+        if (!enabled || !ready) {
+            return;
+        }
+        if (fullReloadRequested.getAndSet(false) || dirtyJobs.size() > maxIncrementalJobs) {
+            dirtyJobs.clear();
+            reconcile();
+            return;
+        }
+        for (JobKey jobKey : Set.copyOf(dirtyJobs)) {
+            dirtyJobs.remove(jobKey);
+            try {
+                List<TriggerInfo> current = schedulerService.findTriggers(TriggerQuery.builder()
+                        .group(jobKey.getGroup())
+                        .jobName(jobKey.getName())
+                        .build()).getItems();
+                Map<TriggerKey, TriggerInfo> loaded = new HashMap<>();
+                current.forEach(t -> loaded.put(keyOf(t), t));
+                boolean changed = triggers.entrySet().removeIf(e -> e.getValue().getJobName().equals(jobKey.getName())
+                        && e.getValue().getJobGroup().equals(jobKey.getGroup())
+                        && !loaded.containsKey(e.getKey()));
+                changed |= putAll(loaded);
+                if (changed) {
+                    version.incrementAndGet();
+                }
+            } catch (SchedulerException | RuntimeException e) {
+                log.warn("Failed to refresh cached triggers for {}, scheduling full reload", jobKey, e);
+                requestFullReload();
+            }
+        }
+    }
+
+    /**
+     * Full comparison against the job store. Runs at startup and periodically afterwards;
+     * the version only moves if something actually differs.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${quartz.jobs.cache.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<TriggerInfo> all = schedulerService.findTriggers(TriggerQuery.builder().build()).getItems();
+            Map<TriggerKey, TriggerInfo> loaded = new HashMap<>(all.size() * 2);
+            all.forEach(t -> loaded.put(keyOf(t), t));
+            Set<TriggerKey> stale = new HashSet<>(triggers.keySet());
+            stale.removeAll(loaded.keySet());
+            boolean changed = triggers.keySet().removeAll(stale);
+            changed |= putAll(loaded);
+            if (changed || !ready) {
+                version.incrementAndGet();
+            }
+            if (!ready) {
+                log.info("Trigger snapshot cache loaded with {} triggers", loaded.size());
+            }
+            ready = true;
+        } catch (SchedulerException | RuntimeException e) {
+            log.error("Failed to reconcile trigger snapshot cache", e);
+        }
+    }
+
+    private boolean putAll(Map<TriggerKey, TriggerInfo> loaded) {
+        boolean changed = false;
+        for (Map.Entry<TriggerKey, TriggerInfo> entry : loaded.entrySet()) {
+            TriggerInfo previous = triggers.put(entry.getKey(), entry.getValue());
+            changed |= !entry.getValue().equals(previous);
+        }
+        return changed;
+    }
+
+    private static TriggerKey keyOf(TriggerInfo info) {
+        return new TriggerKey(info.getTriggerName(), info.getTriggerGroup());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.stats;
+
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+
+/**
+ * Counters plus latency histogram for one job over some time span. Used both for the
+ * open in-memory minute buckets and for merging persisted rollup rows at query time.
+ */
+public final class JobStatsAccumulator {
+
+    private long successCount;
+    private long failureCount;
+    private long vetoCount;
+    private long totalDuration;
+    private long maxDuration;
+    private final LatencyHistogram histogram;
+
+    public JobStatsAccumulator() {
+        this(new LatencyHistogram());
+    }
+
+    private JobStatsAccumulator(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    public static JobStatsAccumulator of(long successCount, long failureCount, long vetoCount,
+                                         long totalDuration, long maxDuration, byte[] histogram) {
+        JobStatsAccumulator acc = new JobStatsAccumulator(LatencyHistogram.fromBytes(histogram));
+        acc.successCount = successCount;
+        acc.failureCount = failureCount;
+        acc.vetoCount = vetoCount;
+        acc.totalDuration = totalDuration;
+        acc.maxDuration = maxDuration;
+        return acc;
+    }
+
+    public synchronized void record(ExecutionLog.ExecutionStatus status, long durationMillis) {
+        switch (status) {
+            case SUCCESS -> successCount++;
+            case FAILURE -> failureCount++;
+            case VETOED -> {
+                // Vetoed fires never ran, so they carry no latency sample
+                vetoCount++;
+                return;
+            }
+        }
+        totalDuration += durationMillis;
+        maxDuration = Math.max(maxDuration, durationMillis);
+        histogram.record(durationMillis);
+    }
+
+    public synchronized void merge(JobStatsAccumulator other) {
+        synchronized (other) {
+            successCount += other.successCount;
+            failureCount += other.failureCount;
+            vetoCount += other.vetoCount;
+            totalDuration += other.totalDuration;
+            maxDuration = Math.max(maxDuration, other.maxDuration);
+            histogram.merge(other.histogram);
+        }
+    }
+
+    public synchronized long getSuccessCount() {
+        return successCount;
+    }
+
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    public synchronized long getVetoCount() {
+        return vetoCount;
+    }
+
+    public synchronized long getTotalDuration() {
+        return totalDuration;
+    }
+
+    public synchronized long getMaxDuration() {
+        return maxDuration;
+    }
+
+    public synchronized long getExecutedCount() {
+        return successCount + failureCount;
+    }
+
+    public synchronized long percentile(double quantile) {
+        return Math.min(histogram.percentile(quantile), maxDuration);
+    }
+
+    public synchronized byte[] histogramBytes() {
+        return histogram.toBytes();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.stats;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Fixed-size, mergeable latency histogram over milliseconds. Values below 8ms get exact
+ * buckets; above that each power of two is split into four sub-buckets, which bounds the
+ * relative error of a reported percentile to 25% while keeping the whole histogram at 128
+ * counters regardless of how many samples it holds.
+ */
+public final class LatencyHistogram {
+
+    static final int BUCKETS = 128;
+    /**
+     * Longest {@link #toBytes} encoding: every bucket set, each with a one byte index delta
+     * and a count of up to nine varint bytes (counts are never negative).
+     */
+    public static final int MAX_ENCODED_BYTES = BUCKETS * 10;
+    private static final int EXACT = 8;
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = 3;
+    private static final long MAX_TRACKABLE = (1L << (MIN_EXPONENT + (BUCKETS - EXACT) / SUB_BUCKETS)) - 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    public void record(long millis) {
+        counts[indexOf(millis)]++;
+        total++;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Upper bound of the bucket containing the given quantile (0..1), or 0 when empty.
+     */
+    public long percentile(double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * Sparse encoding: varint pairs of (bucket index delta, count) for non-empty buckets.
+     * An idle or single-latency histogram encodes to a handful of bytes.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        int previous = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) {
+                writeVarLong(out, i - previous);
+                writeVarLong(out, counts[i]);
+                previous = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static LatencyHistogram fromBytes(byte[] bytes) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        if (bytes == null) {
+            return histogram;
+        }
+        int[] pos = {0};
+        int index = 0;
+        while (pos[0] < bytes.length) {
+            index += (int) readVarLong(bytes, pos);
+            long count = readVarLong(bytes, pos);
+            histogram.counts[index] += count;
+            histogram.total += count;
+        }
+        return histogram;
+    }
+
+    static int indexOf(long millis) {
+        long value = Math.min(Math.max(millis, 0), MAX_TRACKABLE);
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT + (exponent - MIN_EXPONENT) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int exponent = MIN_EXPONENT + (index - EXACT) / SUB_BUCKETS;
+        int sub = (index - EXACT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{total=" + total + ", counts=" + Arrays.toString(counts) + "}";
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.stats;
+
+import com.ppuskar.quartzmanager.entity.ExecutionLog;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The newest executions of one job by fire time, held in parallel arrays of primitives
+ * and shared references (strings, status constants) instead of one object graph per
+ * execution. When all slots are taken, a new execution replaces the one with the oldest
+ * fire time; an execution older than everything held is dropped.
+ * <p>
+ * Until {@link #seed} merges in the persisted history, the slots only cover executions
+ * recorded since the instance was created.
+ */
+public final class RecentExecutions {
+
+    private final long[] ids; // 0 when unknown
+    private final long[] fireTimes; // epoch millis
+    private final long[] durations;
+    private final ExecutionLog.ExecutionStatus[] statuses;
+    private final short[] attempts; // 0 when unknown
+    private final String[] triggerNames;
+    private final String[] triggerGroups;
+    private final String[] messages;
+    private final String[] originFireIds;
+    private final int maxMessageLength;
+    private int size;
+    private boolean seeded;
+
+    public RecentExecutions(int capacity, int maxMessageLength) {
+        this.ids = new long[capacity];
+        this.fireTimes = new long[capacity];
+        this.durations = new long[capacity];
+        this.statuses = new ExecutionLog.ExecutionStatus[capacity];
+        this.attempts = new short[capacity];
+        this.triggerNames = new String[capacity];
+        this.triggerGroups = new String[capacity];
+        this.messages = new String[capacity];
+        this.originFireIds = new String[capacity];
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    /**
+     * Adds an execution unless it is already held, which happens when a seed read it from
+     * the database before it was recorded here.
+     */
+    public synchronized void add(ExecutionLog execution) {
+        if (contains(execution)) {
+            return;
+        }
+        long fireTime = toMillis(execution.getFireTime());
+        int slot;
+        if (size < fireTimes.length) {
+            slot = size++;
+        } else {
+            slot = oldestSlot();
+            if (fireTime < fireTimes[slot]) {
+                return;
+            }
+        }
+        ids[slot] = execution.getId() != null ? execution.getId() : 0;
+        fireTimes[slot] = fireTime;
+        durations[slot] = execution.getDuration() != null ? execution.getDuration() : 0;
+        statuses[slot] = execution.getStatus();
+        attempts[slot] = execution.getAttempt() != null ? execution.getAttempt().shortValue() : 0;
+        triggerNames[slot] = execution.getTriggerName();
+        triggerGroups[slot] = execution.getTriggerGroup();
+        messages[slot] = summarize(execution.getMessage(), maxMessageLength);
+        originFireIds[slot] = execution.getOriginFireId();
+    }
+
+    /**
+     * Merges persisted executions (newest first) into the slots, skipping those already
+     * held. Afterwards the slots cover the job's whole history up to their capacity.
+     */
+    public synchronized void seed(List<ExecutionLog> persisted) {
+        for (ExecutionLog execution : persisted) {
+            add(execution);
+        }
+        seeded = true;
+    }
+
+    /**
+     * @return whether the newest {@code limit} executions can be answered from the slots
+     */
+    public synchronized boolean covers(int limit) {
+        return limit <= fireTimes.length && (seeded || size >= limit);
+    }
+
+    /**
+     * @return up to {@code limit} executions, newest fire time first
+     */
+    public synchronized List<ExecutionLog> latest(String jobGroup, String jobName, int limit) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(fireTimes[b], fireTimes[a]));
+        List<ExecutionLog> result = new ArrayList<>(Math.min(limit, size));
+        for (int i = 0; i < Math.min(limit, size); i++) {
+            int slot = order[i];
+            LocalDateTime fireTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(fireTimes[slot]),
+                    ZoneId.systemDefault());
+            result.add(ExecutionLog.builder()
+                    .id(ids[slot] != 0 ? ids[slot] : null)
+                    .jobName(jobName)
+                    .jobGroup(jobGroup)
+                    .triggerName(triggerNames[slot])
+                    .triggerGroup(triggerGroups[slot])
+                    .fireTime(fireTime)
+                    .endTime(fireTime.plusNanos(durations[slot] * 1_000_000))
+                    .duration(durations[slot])
+                    .status(statuses[slot])
+                    .message(messages[slot])
+                    .attempt(attempts[slot] != 0 ? (int) attempts[slot] : null)
+                    .originFireId(originFireIds[slot])
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * @return the message cut to {@code maxLength} characters, as held in the slots
+     */
+    public static String summarize(String message, int maxLength) {
+        if (message == null || message.length() <= maxLength) {
+            return message;
+        }
+        return message.substring(0, maxLength) + "...";
+    }
+
+    private boolean contains(ExecutionLog execution) {
+        long id = execution.getId() != null ? execution.getId() : 0;
+        long fireTime = toMillis(execution.getFireTime());
+        short attempt = execution.getAttempt() != null ? execution.getAttempt().shortValue() : 0;
+        for (int i = 0; i < size; i++) {
+            if (id != 0 && ids[i] != 0) {
+                if (ids[i] == id) {
+                    return true;
+                }
+            } else if (fireTimes[i] == fireTime && attempts[i] == attempt
+                    && Objects.equals(triggerNames[i], execution.getTriggerName())
+                    && Objects.equals(triggerGroups[i], execution.getTriggerGroup())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int oldestSlot() {
+        int oldest = 0;
+        for (int i = 1; i < size; i++) {
+            if (fireTimes[i] < fireTimes[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.job;
+
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CircuitBreakerTest {
+
+    private static final String TARGET = "api.example.com";
+
+    private final QuartzMetrics quartzMetrics = mock(QuartzMetrics.class);
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = circuitBreaker(60_000);
+    }
+
+    @Test
+    void healthyTargetsPass() {
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+        circuitBreaker.record(TARGET, false);
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        fail(2);
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+
+        fail(1);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isPositive().isLessThanOrEqualTo(60_000);
+        verify(quartzMetrics).circuitOpened(TARGET);
+        verify(quartzMetrics).circuitRejected(TARGET);
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        fail(2);
+        circuitBreaker.record(TARGET, false);
+        fail(2);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+        verify(quartzMetrics, never()).circuitOpened(TARGET);
+    }
+
+    @Test
+    void targetsAreIndependent() {
+        fail(3);
+
+        assertThat(circuitBreaker.tryAcquire("other.example.com")).isZero();
+    }
+
+    @Test
+    void letsOneProbeThroughAfterTheOpenPeriod() throws Exception {
+        circuitBreaker = circuitBreaker(50);
+        fail(3);
+        Thread.sleep(60);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isPositive();
+    }
+
+    @Test
+    void successfulProbeClosesTheCircuit() throws Exception {
+        circuitBreaker = circuitBreaker(50);
+        fail(3);
+        Thread.sleep(60);
+        circuitBreaker.tryAcquire(TARGET);
+
+        circuitBreaker.record(TARGET, false);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+    }
+
+    @Test
+    void failedProbeReopensTheCircuit() throws Exception {
+        circuitBreaker = circuitBreaker(50);
+        fail(3);
+        Thread.sleep(60);
+        circuitBreaker.tryAcquire(TARGET);
+
+        circuitBreaker.record(TARGET, true);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isPositive();
+        // Still the same open period, not a newly opened circuit
+        verify(quartzMetrics, times(1)).circuitOpened(TARGET);
+    }
+
+    @Test
+    void lateSuccessDoesNotCloseAnOpenCircuit() {
+        fail(3);
+
+        circuitBreaker.record(TARGET, false);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isPositive();
+    }
+
+    @Test
+    void releasedProbeCanBeTakenAgainAtOnce() throws Exception {
+        circuitBreaker = circuitBreaker(50);
+        fail(3);
+        Thread.sleep(60);
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+
+        circuitBreaker.release(TARGET);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isPositive();
+    }
+
+    @Test
+    void releaseWithoutProbeKeepsTheCircuitOpen() {
+        fail(3);
+
+        circuitBreaker.release(TARGET);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isPositive();
+    }
+
+    @Test
+    void disabledBreakerNeverOpens() {
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", false);
+        fail(10);
+
+        assertThat(circuitBreaker.tryAcquire(TARGET)).isZero();
+        verify(quartzMetrics, never()).circuitOpened(TARGET);
+    }
+
+    private CircuitBreaker circuitBreaker(long openMs) {
+        CircuitBreaker breaker = new CircuitBreaker(quartzMetrics);
+        ReflectionTestUtils.setField(breaker, "enabled", true);
+        ReflectionTestUtils.setField(breaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(breaker, "openMs", openMs);
+        return breaker;
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.record(TARGET, true);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.listener;
+
+import com.ppuskar.quartzmanager.job.FollowUpScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CatchUpThrottleTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private CatchUpThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new CatchUpThrottle(mock(FollowUpScheduler.class));
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "ratePerSecond", 10.0);
+        ReflectionTestUtils.setField(throttle, "burst", 3);
+    }
+
+    @Test
+    void burstRunsAtOnce() {
+        assertThat(throttle.reserve(NOW)).isZero();
+        assertThat(throttle.reserve(NOW)).isZero();
+        assertThat(throttle.reserve(NOW)).isZero();
+    }
+
+    @Test
+    void firesPastTheBurstArePacedAtTheRate() {
+        for (int i = 0; i < 3; i++) {
+            throttle.reserve(NOW);
+        }
+
+        assertThat(throttle.reserve(NOW)).isEqualTo(100);
+        assertThat(throttle.reserve(NOW)).isEqualTo(200);
+        assertThat(throttle.reserve(NOW + 50)).isEqualTo(250);
+    }
+
+    @Test
+    void takenSlotsAreKeptAsTimePasses() {
+        for (int i = 0; i < 5; i++) {
+            throttle.reserve(NOW);
+        }
+
+        // Slots up to NOW + 200 are taken, so the next one is at NOW + 300
+        assertThat(throttle.reserve(NOW + 250)).isEqualTo(50);
+        assertThat(throttle.reserve(NOW + 300)).isEqualTo(100);
+    }
+
+    @Test
+    void idleTimeRefillsNoMoreThanTheBurst() {
+        throttle.reserve(NOW);
+
+        long later = NOW + 60_000;
+        for (int i = 0; i < 3; i++) {
+            assertThat(throttle.reserve(later)).isZero();
+        }
+        assertThat(throttle.reserve(later)).isEqualTo(100);
+    }
+
+    @Test
+    void reportsTheDelayOfTheNextSlot() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 12; i++) {
+            throttle.reserve(now);
+        }
+
+        assertThat(throttle.getCatchUpDelayMs()).isGreaterThan(900).isLessThanOrEqualTo(1000);
+    }
+}
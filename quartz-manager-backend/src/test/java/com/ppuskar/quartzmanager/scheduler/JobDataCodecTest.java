@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobDataCodecTest {
+
+    @Test
+    void roundTripsValuesThatNeedEscaping() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("url", "https://example.com/api?a=1&b=2");
+        data.put("headers", "{\"Content-Type\": \"application/json\"}");
+        data.put("body", "line one\nline two\ttabbed");
+        data.put("key with = and : ", "  leading spaces");
+        data.put("unicode", "Zürich – 東京 🚀");
+        data.put("#comment", "!bang");
+        data.put("empty", "");
+
+        assertThat(JobDataCodec.decode(JobDataCodec.encode(data))).isEqualTo(data);
+    }
+
+    @Test
+    void encodesNullsAsEmptyStringsAndOtherValuesAsText() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("missing", null);
+        data.put("attempts", 3);
+        data.put("enabled", true);
+
+        assertThat(JobDataCodec.decode(JobDataCodec.encode(data)))
+                .containsEntry("missing", "")
+                .containsEntry("attempts", "3")
+                .containsEntry("enabled", "true");
+    }
+
+    @Test
+    void encodesWithoutTheTimestampComment() {
+        String text = new String(JobDataCodec.encode(Map.of("url", "http://localhost")), StandardCharsets.ISO_8859_1);
+
+        assertThat(text).doesNotStartWith("#").isEqualTo("url=http\\://localhost" + System.lineSeparator());
+    }
+
+    @Test
+    void decodesKeysInSortedOrder() {
+        byte[] blob = "b=2\na=1\nc=3\n".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(JobDataCodec.decode(blob).keySet()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void decodesEmptyColumnsAsEmptyMaps() {
+        assertThat(JobDataCodec.decode(null)).isEmpty();
+        assertThat(JobDataCodec.decode(new byte[0])).isEmpty();
+        assertThat(JobDataCodec.encode(Map.of())).isEmpty();
+    }
+
+    @Test
+    void decodesSerializedJobDataMaps() throws Exception {
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put("url", "http://localhost");
+        jobDataMap.put("retry.maxAttempts", 3);
+        byte[] blob = serialize(jobDataMap);
+
+        assertThat(JobDataCodec.isSerialized(blob)).isTrue();
+        assertThat(JobDataCodec.decode(blob))
+                .containsEntry("url", "http://localhost")
+                .containsEntry("retry.maxAttempts", 3);
+    }
+
+    @Test
+    void recognizesPropertiesTextAsNotSerialized() {
+        assertThat(JobDataCodec.isSerialized(JobDataCodec.encode(Map.of("a", "b")))).isFalse();
+        assertThat(JobDataCodec.isSerialized(null)).isFalse();
+        assertThat(JobDataCodec.isSerialized(new byte[]{(byte) 0xAC})).isFalse();
+    }
+
+    @Test
+    void rejectsCorruptSerializedData() {
+        byte[] blob = {(byte) 0xAC, (byte) 0xED, 0, 5, 1, 2, 3};
+
+        assertThatThrownBy(() -> JobDataCodec.decode(blob)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void toJobDataMapKeepsOnlyStrings() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("timeoutMs", 5000L);
+        data.put("missing", null);
+
+        JobDataMap jobDataMap = JobDataCodec.toJobDataMap(data);
+
+        assertThat(jobDataMap.getWrappedMap())
+                .containsEntry("timeoutMs", "5000")
+                .containsEntry("missing", "");
+        assertThat(JobDataCodec.toJobDataMap(null)).isEmpty();
+    }
+
+    private static byte[] serialize(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+}
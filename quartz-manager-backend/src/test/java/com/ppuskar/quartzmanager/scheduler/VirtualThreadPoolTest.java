@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadPoolTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    private final String schedulerName = "VirtualThreadPoolTest-" + System.nanoTime();
+    private VirtualThreadPool pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = new VirtualThreadPool();
+        pool.setInstanceName(schedulerName);
+        pool.setMaxConcurrency(2);
+        pool.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdown(false);
+    }
+
+    @Test
+    void queuesJobsBeyondTheLimit() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertThat(pool.runInThread(blockingJob())).isTrue();
+        }
+        awaitRunning(2);
+
+        assertThat(pool.getBusyCount()).isEqualTo(2);
+        assertThat(pool.getAvailableCount()).isZero();
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).queued()).isEqualTo(2);
+
+        release.countDown();
+        awaitCompleted(4);
+        assertThat(peak.get()).isEqualTo(2);
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).started()).isEqualTo(4);
+    }
+
+    @Test
+    void reservedWorkersAreOnlyUsedByTheirLane() throws Exception {
+        pool.resize(3);
+        pool.configureLanes(List.of(new VirtualThreadPool.LaneLimits("batch", 1, 1, 5)), 100);
+
+        // The default lane only gets the two shared workers
+        for (int i = 0; i < 3; i++) {
+            pool.runInThread(blockingJob());
+        }
+        awaitRunning(2);
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).queued()).isEqualTo(1);
+        assertThat(pool.getAvailableCount()).isEqualTo(1);
+
+        // The batch lane starts on its reserved worker and is capped at one job
+        pool.assignLane("batch");
+        pool.runInThread(blockingJob());
+        pool.assignLane("batch");
+        pool.runInThread(blockingJob());
+        awaitRunning(3);
+
+        VirtualThreadPool.LaneSnapshot batch = lane("batch");
+        assertThat(batch.active()).isEqualTo(1);
+        assertThat(batch.queued()).isEqualTo(1);
+        assertThat(pool.getAvailableCount()).isZero();
+
+        release.countDown();
+        awaitCompleted(5);
+    }
+
+    @Test
+    void unknownLaneRunsInTheDefaultLane() throws Exception {
+        pool.assignLane("missing");
+        pool.runInThread(blockingJob());
+        awaitRunning(1);
+
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).active()).isEqualTo(1);
+    }
+
+    @Test
+    void blocksTheSchedulerThreadWhileTheQueueIsFull() throws Exception {
+        pool.configureLanes(List.of(), 1);
+        pool.runInThread(blockingJob());
+        pool.runInThread(blockingJob());
+        pool.runInThread(blockingJob());
+        awaitRunning(2);
+
+        CompletableFuture<Integer> free = CompletableFuture.supplyAsync(pool::blockForAvailableThreads);
+        assertThatThrownBy(() -> free.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        assertThat(free.get(5, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void growingStartsQueuedJobs() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            pool.runInThread(blockingJob());
+        }
+        awaitRunning(2);
+
+        pool.resize(3);
+        awaitRunning(3);
+        assertThat(pool.getPoolSize()).isEqualTo(3);
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).queued()).isZero();
+    }
+
+    @Test
+    void shrinkingWaitsForRunningJobs() throws Exception {
+        pool.runInThread(blockingJob());
+        pool.runInThread(blockingJob());
+        awaitRunning(2);
+
+        pool.resize(1);
+        pool.runInThread(blockingJob());
+        assertThat(pool.getBusyCount()).isEqualTo(2);
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).queued()).isEqualTo(1);
+
+        release.countDown();
+        awaitCompleted(3);
+        assertThat(peak.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsNonPositiveLimits() {
+        assertThatThrownBy(() -> pool.resize(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shutdownWaitsForQueuedJobsWithinTheLimit() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            pool.runInThread(sleepingJob());
+        }
+
+        pool.shutdown(true);
+
+        assertThat(completed.get()).isEqualTo(6);
+        assertThat(peak.get()).isEqualTo(2);
+        assertThat(pool.runInThread(sleepingJob())).isFalse();
+        assertThat(VirtualThreadPool.forScheduler(schedulerName)).isNull();
+    }
+
+    @Test
+    void shutdownWithoutWaitingDiscardsQueuedJobs() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            pool.runInThread(blockingJob());
+        }
+        awaitRunning(2);
+
+        pool.shutdown(false);
+        release.countDown();
+
+        awaitCompleted(2);
+        Thread.sleep(50);
+        assertThat(completed.get()).isEqualTo(2);
+        assertThat(lane(VirtualThreadPool.DEFAULT_LANE).queued()).isZero();
+    }
+
+    private Runnable blockingJob() {
+        return job(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private Runnable sleepingJob() {
+        return job(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private Runnable job(Runnable body) {
+        return () -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                body.run();
+            } finally {
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            }
+        };
+    }
+
+    private VirtualThreadPool.LaneSnapshot lane(String name) {
+        return pool.getLaneSnapshots().stream()
+                .filter(lane -> lane.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void awaitRunning(int jobs) throws InterruptedException {
+        awaitCount(running, jobs);
+    }
+
+    private void awaitCompleted(int jobs) throws InterruptedException {
+        awaitCount(completed, jobs);
+    }
+
+    private static void awaitCount(AtomicInteger counter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(counter.get()).isEqualTo(expected);
+    }
+}
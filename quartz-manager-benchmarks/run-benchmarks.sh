@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# Builds the backend and the benchmarks, then runs JMH and writes the results as JSON
+# to results/<commit>.json so runs of different commits can be compared.
+# Extra arguments are passed to JMH, e.g. a benchmark regex or "-p jobs=1000".
+set -euo pipefail
+
+cd "$(dirname "$0")"
+commit="$(git rev-parse --short HEAD 2>/dev/null || echo local)"
+if ! git diff --quiet HEAD -- ../quartz-manager-backend 2>/dev/null; then
+  commit="${commit}-dirty"
+fi
+
+(cd ../quartz-manager-backend && mvn -B -q install -DskipTests)
+mvn -B -q package
+
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/${commit}.json" "$@"
+echo "Results written to results/${commit}.json"
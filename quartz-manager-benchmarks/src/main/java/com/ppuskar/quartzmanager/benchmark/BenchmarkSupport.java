@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.Date;
+import java.util.Properties;
+
+/**
+ * Fixtures shared by the benchmarks: in-memory H2 databases, unstarted Quartz schedulers
+ * and hand-built execution contexts.
+ */
+final class BenchmarkSupport {
+
+    static final String QUARTZ_SCHEMA = "org/quartz/impl/jdbcjobstore/tables_h2.sql";
+    static final String APP_SCHEMA = "benchmark-schema.sql";
+
+    private BenchmarkSupport() {
+    }
+
+    static String h2Url(String database) {
+        return "jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+
+    static HikariDataSource h2DataSource(String database, String... schemaScripts) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(h2Url(database));
+        dataSource.setMaximumPoolSize(8);
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        for (String script : schemaScripts) {
+            populator.addScript(new ClassPathResource(script));
+        }
+        populator.execute(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * A scheduler that is never started, so no trigger fires while a benchmark runs.
+     * Without a database the RAM job store is used.
+     */
+    static Scheduler scheduler(String name, String database) throws SchedulerException {
+        Properties props = new Properties();
+        props.setProperty("org.quartz.scheduler.instanceName", name);
+        props.setProperty("org.quartz.threadPool.threadCount", "1");
+        if (database != null) {
+            props.setProperty("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+            props.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+            props.setProperty("org.quartz.jobStore.dataSource", "bench");
+            props.setProperty("org.quartz.dataSource.bench.provider", "hikaricp");
+            props.setProperty("org.quartz.dataSource.bench.driver", "org.h2.Driver");
+            props.setProperty("org.quartz.dataSource.bench.URL", h2Url(database));
+            props.setProperty("org.quartz.dataSource.bench.maxConnections", "4");
+        } else {
+            props.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        }
+        return new StdSchedulerFactory(props).getScheduler();
+    }
+
+    static JobExecutionContextImpl context(Scheduler scheduler, JobDetail jobDetail, Trigger trigger) {
+        Date now = new Date();
+        TriggerFiredBundle bundle = new TriggerFiredBundle(jobDetail, (OperableTrigger) trigger, null,
+                false, now, now, null, null);
+        return new JobExecutionContextImpl(scheduler, bundle, null);
+    }
+
+    static void close(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+}
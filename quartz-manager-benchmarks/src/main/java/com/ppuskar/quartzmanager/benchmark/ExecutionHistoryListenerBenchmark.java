@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.benchmark;
+
+import com.ppuskar.quartzmanager.job.HttpJob;
+import com.ppuskar.quartzmanager.listener.ExecutionHistoryListener;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.ppuskar.quartzmanager.repository.JobStatsRepository;
+import com.ppuskar.quartzmanager.scheduler.MaintenanceLock;
+import com.ppuskar.quartzmanager.service.ExecutionLogWriter;
+import com.ppuskar.quartzmanager.service.JobStatsService;
+import com.ppuskar.quartzmanager.service.RecentExecutionCache;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustained throughput of the history listener's save path ({@code jobWasExecuted} with
+ * a successful result) with the write-behind writer persisting to an embedded H2
+ * database. The writer runs with the BLOCK overflow policy, so once its queue is full
+ * the measured rate is bounded by the batch inserts rather than the enqueue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+public class ExecutionHistoryListenerBenchmark {
+
+    @Param({"100", "500"})
+    public int batchSize;
+
+    private HikariDataSource dataSource;
+    private Scheduler scheduler;
+    private AnnotationConfigApplicationContext applicationContext;
+    private ExecutionHistoryListener listener;
+    private JobExecutionContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = BenchmarkSupport.h2DataSource("history_" + batchSize, BenchmarkSupport.APP_SCHEMA);
+        scheduler = BenchmarkSupport.scheduler("history-benchmark", null);
+
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "quartz.history.writer.queue-capacity", "10000",
+                "quartz.history.writer.batch-size", String.valueOf(batchSize),
+                "quartz.history.writer.flush-interval-ms", "200",
+                "quartz.history.writer.overflow-policy", "BLOCK")));
+        applicationContext.registerBean(Scheduler.class, () -> scheduler);
+        applicationContext.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        applicationContext.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+        applicationContext.registerBean(TransactionTemplate.class,
+                () -> new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        applicationContext.register(QuartzMetrics.class, JobStatsRepository.class, MaintenanceLock.class,
+                JobStatsService.class, RecentExecutionCache.class, ExecutionLogWriter.class,
+                ExecutionHistoryListener.class);
+        applicationContext.refresh();
+        listener = applicationContext.getBean(ExecutionHistoryListener.class);
+
+        JobDetail jobDetail = JobBuilder.newJob(HttpJob.class).withIdentity("history", "benchmark").build();
+        Trigger trigger = TriggerBuilder.newTrigger().withIdentity("history_trigger", "benchmark")
+                .forJob(jobDetail).build();
+        JobExecutionContextImpl ctx = BenchmarkSupport.context(scheduler, jobDetail, trigger);
+        ctx.setResult("HTTP 200");
+        ctx.setJobRunTime(42);
+        context = ctx;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        // Drains the writer queue before the database goes away
+        applicationContext.close();
+        scheduler.shutdown();
+        BenchmarkSupport.close(dataSource);
+    }
+
+    @Benchmark
+    public void saveLog() {
+        listener.jobWasExecuted(context, null);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.benchmark;
+
+import com.ppuskar.quartzmanager.config.HttpClientConfig;
+import com.ppuskar.quartzmanager.job.CircuitBreaker;
+import com.ppuskar.quartzmanager.job.FollowUpScheduler;
+import com.ppuskar.quartzmanager.job.HttpJob;
+import com.ppuskar.quartzmanager.job.HttpJobDispatcher;
+import com.ppuskar.quartzmanager.job.HttpRequestTemplateCache;
+import com.ppuskar.quartzmanager.job.TargetLimiter;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code HttpJob.execute} on the synchronous path against an in-process stub server, so
+ * the numbers cover request building, the client round trip and response handling
+ * without network noise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HttpJobBenchmark {
+
+    @Param({"GET", "POST"})
+    public String method;
+
+    @Param({"128", "65536"})
+    public int responseBytes;
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private Scheduler scheduler;
+    private AnnotationConfigApplicationContext applicationContext;
+    private HttpJob job;
+    private JobExecutionContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        byte[] body = "x".repeat(responseBytes).getBytes(StandardCharsets.UTF_8);
+        // Without TCP_NODELAY the stub adds a delayed-ACK stall to every exchange
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        httpClient = new HttpClientConfig().httpJobClient(5000);
+        scheduler = BenchmarkSupport.scheduler("http-job-benchmark", null);
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.registerBean(Scheduler.class, () -> scheduler);
+        applicationContext.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        // No limits configured and the stub never fails, so neither limiter nor breaker intervenes
+        applicationContext.register(QuartzMetrics.class, TargetLimiter.class, HttpRequestTemplateCache.class,
+                CircuitBreaker.class, FollowUpScheduler.class);
+        applicationContext.refresh();
+        QuartzMetrics metrics = applicationContext.getBean(QuartzMetrics.class);
+        // The async path is not exercised, so the dispatcher has no history listener
+        CircuitBreaker circuitBreaker = applicationContext.getBean(CircuitBreaker.class);
+        FollowUpScheduler followUpScheduler = applicationContext.getBean(FollowUpScheduler.class);
+        HttpJobDispatcher dispatcher = new HttpJobDispatcher(httpClient, null, metrics, circuitBreaker,
+                followUpScheduler, 1);
+        job = new HttpJob(httpClient, dispatcher, metrics, applicationContext.getBean(TargetLimiter.class),
+                applicationContext.getBean(HttpRequestTemplateCache.class), circuitBreaker, followUpScheduler);
+
+        JobDetail jobDetail = JobBuilder.newJob(HttpJob.class)
+                .withIdentity("hook", "benchmark")
+                .usingJobData("url", "http://127.0.0.1:" + server.getAddress().getPort() + "/hook")
+                .usingJobData("method", method)
+                .usingJobData("body", "{\"event\":\"tick\"}")
+                .usingJobData("header.Content-Type", "application/json")
+                .usingJobData("async", "false")
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger().withIdentity("hook_trigger", "benchmark").forJob(jobDetail).build();
+        context = BenchmarkSupport.context(scheduler, jobDetail, trigger);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        server.stop(0);
+        httpClient.close();
+        applicationContext.close();
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public void execute() throws Exception {
+        job.execute(context);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.benchmark;
+
+import com.ppuskar.quartzmanager.scheduler.JobDataCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.JobDataMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code JOB_DATA} column round trip in both formats the JDBC job store can
+ * write: Java serialization of a {@link JobDataMap}, and properties text with
+ * {@code useProperties=true}. Decoding goes through {@link JobDataCodec#decode} as the job
+ * listing reads it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobDataMapBenchmark {
+
+    @Param({"4", "32"})
+    public int entries;
+
+    private JobDataMap jobDataMap;
+    private byte[] serialized;
+    private byte[] properties;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jobDataMap = new JobDataMap();
+        jobDataMap.put("url", "https://example.com/hooks/orders/sync");
+        jobDataMap.put("method", "POST");
+        jobDataMap.put("body", "{\"source\":\"scheduler\",\"batch\":500}");
+        jobDataMap.put("header.Content-Type", "application/json");
+        for (int i = jobDataMap.size(); i < entries; i++) {
+            jobDataMap.put("header.X-Custom-" + i, "value-" + i);
+        }
+        serialized = serialize(jobDataMap);
+        properties = JobDataCodec.encode(jobDataMap);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return serialize(jobDataMap);
+    }
+
+    @Benchmark
+    public byte[] encodeProperties() {
+        return JobDataCodec.encode(jobDataMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> decode() {
+        return JobDataCodec.decode(serialized);
+    }
+
+    @Benchmark
+    public Map<String, Object> decodeProperties() {
+        return JobDataCodec.decode(properties);
+    }
+
+    private static byte[] serialize(JobDataMap map) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        return bytes.toByteArray();
+    }
+}
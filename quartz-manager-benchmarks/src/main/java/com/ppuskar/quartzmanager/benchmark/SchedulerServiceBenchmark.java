@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Quartz Manager Contributors
+ *
+ * This file is part of Quartz Manager.
+ *
+ * Quartz Manager is free software: you can redistribute it and/or modify
+ * it under the terms of the MIT License with Non-Commercial Restriction.
+ *
+ * This software may NOT be used for commercial purposes.
+ * See the LICENSE file in the project root for full license information.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND.
+ */
+
+package com.ppuskar.quartzmanager.benchmark;
+
+import com.ppuskar.quartzmanager.dto.TriggerInfo;
+import com.ppuskar.quartzmanager.job.HttpJob;
+import com.ppuskar.quartzmanager.job.HttpRequestTemplateCache;
+import com.ppuskar.quartzmanager.job.TargetLimiter;
+import com.ppuskar.quartzmanager.metrics.QuartzMetrics;
+import com.ppuskar.quartzmanager.repository.QuartzJobStoreRepository;
+import com.ppuskar.quartzmanager.scheduler.CronSpreader;
+import com.ppuskar.quartzmanager.scheduler.ExecutionLanes;
+import com.ppuskar.quartzmanager.service.SchedulerService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code SchedulerService.getAllTriggers} over a populated job store. The JDBC store
+ * takes the set-based query path, the RAM store the per-job scheduler API path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SchedulerServiceBenchmark {
+
+    private static final int GROUPS = 20;
+    private static final int CHUNK = 1000;
+
+    @Param({"1000", "10000", "50000"})
+    public int jobs;
+
+    @Param({"jdbc", "ram"})
+    public String store;
+
+    private HikariDataSource dataSource;
+    private Scheduler scheduler;
+    private AnnotationConfigApplicationContext applicationContext;
+    private SchedulerService schedulerService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String database = "triggers_" + store + "_" + jobs;
+        dataSource = BenchmarkSupport.h2DataSource(database, BenchmarkSupport.QUARTZ_SCHEMA);
+        scheduler = BenchmarkSupport.scheduler(database, store.equals("jdbc") ? database : null);
+        populate(scheduler, jobs);
+
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.registerBean(Scheduler.class, () -> scheduler);
+        applicationContext.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+        applicationContext.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        applicationContext.register(QuartzMetrics.class, TargetLimiter.class, HttpRequestTemplateCache.class,
+                CronSpreader.class, ExecutionLanes.class, QuartzJobStoreRepository.class, SchedulerService.class);
+        applicationContext.refresh();
+        schedulerService = applicationContext.getBean(SchedulerService.class);
+    }
+
+    private static void populate(Scheduler scheduler, int jobs) throws Exception {
+        Map<JobDetail, Set<? extends Trigger>> chunk = new LinkedHashMap<>();
+        for (int i = 0; i < jobs; i++) {
+            String group = "group-" + (i % GROUPS);
+            JobDetail jobDetail = JobBuilder.newJob(HttpJob.class)
+                    .withIdentity("job-" + i, group)
+                    .withDescription("Benchmark job " + i)
+                    .usingJobData("url", "http://localhost:8081/hooks/" + i)
+                    .usingJobData("method", "POST")
+                    .usingJobData("body", "{\"id\":" + i + "}")
+                    .usingJobData("header.Content-Type", "application/json")
+                    .storeDurably()
+                    .build();
+            Trigger trigger = TriggerBuilder.newTrigger()
+                    .withIdentity("job-" + i + "_trigger", group)
+                    .forJob(jobDetail)
+                    .withSchedule(CronScheduleBuilder.cronSchedule("0 0/5 * * * ?"))
+                    .build();
+            chunk.put(jobDetail, Set.of(trigger));
+            if (chunk.size() == CHUNK) {
+                scheduler.scheduleJobs(chunk, true);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            scheduler.scheduleJobs(chunk, true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        applicationContext.close();
+        scheduler.shutdown();
+        BenchmarkSupport.close(dataSource);
+    }
+
+    @Benchmark
+    public List<TriggerInfo> getAllTriggers() throws Exception {
+        return schedulerService.getAllTriggers();
+    }
+}
@@ -0,0 +1,30 @@
+CREATE TABLE execution_logs (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  job_name VARCHAR(255),
+  job_group VARCHAR(255),
+  trigger_name VARCHAR(255),
+  trigger_group VARCHAR(255),
+  fire_time TIMESTAMP(6),
+  end_time TIMESTAMP(6),
+  duration BIGINT,
+  status VARCHAR(32),
+  message VARCHAR(4096),
+  attempt INT,
+  origin_fire_id VARCHAR(255)
+);
+
+CREATE INDEX idx_execution_logs_job_fire ON execution_logs (job_group, job_name, fire_time, id);
+
+CREATE TABLE job_stats_rollups (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  job_name VARCHAR(255),
+  job_group VARCHAR(255),
+  granularity VARCHAR(16),
+  bucket_start TIMESTAMP(6),
+  success_count BIGINT NOT NULL,
+  failure_count BIGINT NOT NULL,
+  veto_count BIGINT NOT NULL,
+  total_duration BIGINT NOT NULL,
+  max_duration BIGINT NOT NULL,
+  histogram VARBINARY(1280)
+);